@@ -4,14 +4,22 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.mxxdone.miniproject.config.cache.CacheGeneration;
+import com.mxxdone.miniproject.config.cache.CacheInvalidationBus;
+import com.mxxdone.miniproject.config.cache.TwoTierCacheManager;
+import com.mxxdone.miniproject.service.NotificationStreamService;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CachingConfigurer;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.BatchStrategies;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -22,14 +30,21 @@ import java.time.Duration;
 @EnableCaching
 public class RedisConfig implements CachingConfigurer {
 
+    private static final long LOCAL_CACHE_MAXIMUM_SIZE = 500;
+    private static final Duration LOCAL_CACHE_TTL = Duration.ofMinutes(1);
+
     /**
      * 스프링의 캐시 추상화가 사용할 CacheManager 빈을 정의
      * '@Cacheable' 의 동작 방식을 Redis에 맞게 커스터마이징
+     * Redis 앞단에 인스턴스별 로컬(Caffeine) 캐시를 두어 자주 읽는 값은 네트워크 I/O 없이 반환
      * @param cf 스프링 부트가 자동 설정한 Redis 연결 팩토리
-     * @return 커스텀 RedisCacheManager
+     * @param invalidationBus 인스턴스 간 로컬 캐시 무효화 채널
+     * @param cacheGeneration 전체 삭제용 캐시 세대 번호
+     * @return Redis + 로컬 2단계 CacheManager
      */
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory cf) {
+    public CacheManager cacheManager(RedisConnectionFactory cf, CacheInvalidationBus invalidationBus,
+                                     CacheGeneration cacheGeneration) {
         // PolymorphicTypeValidator: 역직렬화 시 안전하지 않은 클래스가 생성되는 것을 막는 보안 설정
         // allowIfBaseType(Object.class)는 기본적으로 모든 타입을 허용하되, 보안 위협이 될 수 있는 일부 클래스는 막아줍니다.
         PolymorphicTypeValidator ptv = BasicPolymorphicTypeValidator
@@ -51,9 +66,29 @@ public class RedisConfig implements CachingConfigurer {
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(redisSerializer))
                 .entryTtl(Duration.ofMinutes(3L));
 
-        return RedisCacheManager.RedisCacheManagerBuilder
-                .fromConnectionFactory(cf)
+        // 혹시 남은 패턴 삭제가 있더라도 KEYS 대신 SCAN으로 나눠서 처리
+        RedisCacheWriter cacheWriter = RedisCacheWriter.nonLockingRedisCacheWriter(cf, BatchStrategies.scan(1000));
+        RedisCacheManager redisCacheManager = RedisCacheManager.RedisCacheManagerBuilder
+                .fromCacheWriter(cacheWriter)
                 .cacheDefaults(redisCacheConfiguration)
                 .build();
+        redisCacheManager.afterPropertiesSet();
+
+        // 로컬 캐시는 Redis TTL(3분)보다 짧게 유지
+        return new TwoTierCacheManager(redisCacheManager, invalidationBus, cacheGeneration, LOCAL_CACHE_MAXIMUM_SIZE, LOCAL_CACHE_TTL);
+    }
+
+    /**
+     * 로컬 캐시 무효화 메시지, 알림 스트림 메시지 구독
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory cf,
+                                                                       CacheInvalidationBus invalidationBus,
+                                                                       NotificationStreamService notificationStreamService) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(cf);
+        container.addMessageListener(invalidationBus, new ChannelTopic(CacheInvalidationBus.CHANNEL));
+        container.addMessageListener(notificationStreamService, new ChannelTopic(NotificationStreamService.CHANNEL));
+        return container;
     }
 }
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.mxxdone.miniproject.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling // 주기 작업(@Scheduled) 활성화
+public class SchedulingConfig {
+}
@@ -3,6 +3,7 @@ package com.mxxdone.miniproject.config;
 import com.mxxdone.miniproject.config.security.PrincipalOAuth2UserService;
 import com.mxxdone.miniproject.config.security.jwt.JwtAuthenticationFilter;
 import com.mxxdone.miniproject.config.security.jwt.JwtUtil;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -55,6 +56,8 @@ public class SecurityConfig {
 
                 // API 엔드포인트별 접근 권한 설정
                 .authorizeHttpRequests(auth -> auth
+                        // SSE 응답 완료/타임아웃 시 발생하는 비동기 재디스패치는 이미 인증된 요청 -> 허용
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                         //모든 OPTIONS 요청을 허용
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                         // 토큰 재발급 허용
@@ -85,6 +88,9 @@ public class SecurityConfig {
                         ).permitAll()
                         // 관리자 페이지 권한 지정
                         .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
+                        // 헬스 체크는 공개, 그 외 운영 지표는 관리자만
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         // 카테고리 생성 관리자만 허용
                         .requestMatchers(HttpMethod.POST, "/api/v1/categories/**").hasRole("ADMIN")
                         //그 외 모든 요청은 인증 사용자만 접근 가능
@@ -0,0 +1,30 @@
+package com.mxxdone.miniproject.config.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 캐시 이름별 세대(generation) 번호
+ * 실제 Redis 키에 세대 번호를 붙여 두고, 전체 삭제는 세대 번호만 1 올린다. (INCR, O(1))
+ * 이전 세대의 키는 더 이상 조회되지 않고 TTL이 지나면 Redis가 알아서 정리한다.
+ * -> KEYS/SCAN으로 전체 키 공간을 훑지 않아도 됨
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheGeneration {
+
+    private static final String KEY_PREFIX = "cache:generation:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public long current(String cacheName) {
+        String value = redisTemplate.opsForValue().get(KEY_PREFIX + cacheName);
+        return value != null ? Long.parseLong(value) : 0L;
+    }
+
+    public long next(String cacheName) {
+        Long generation = redisTemplate.opsForValue().increment(KEY_PREFIX + cacheName);
+        return generation != null ? generation : 0L;
+    }
+}
@@ -0,0 +1,76 @@
+package com.mxxdone.miniproject.config.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 여러 백엔드 인스턴스의 로컬(힙) 캐시를 맞추기 위한 Redis Pub/Sub 무효화 채널
+ * 한 인스턴스에서 캐시를 지우면 다른 인스턴스들도 같은 키의 로컬 사본을 버린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationBus implements MessageListener {
+
+    public static final String CHANNEL = "cache:invalidation";
+
+    // 자신이 보낸 메시지는 무시하기 위한 인스턴스 식별자
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<String, Consumer<Collection<String>>> handlers = new ConcurrentHashMap<>();
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    // origin: 발신 인스턴스, keys: 무효화할 키 목록 (null이면 캐시 전체)
+    record InvalidationMessage(String origin, String cacheName, List<String> keys) {}
+
+    /**
+     * 캐시별 로컬 무효화 핸들러 등록
+     * @param handler 무효화할 키 목록을 받음 (null이면 전체 삭제)
+     */
+    public void register(String cacheName, Consumer<Collection<String>> handler) {
+        handlers.put(cacheName, handler);
+    }
+
+    // 다른 인스턴스에 무효화 전파 (keys가 null이면 전체 삭제)
+    public void publish(String cacheName, Collection<String> keys) {
+        try {
+            InvalidationMessage message = new InvalidationMessage(
+                    instanceId, cacheName, keys != null ? List.copyOf(keys) : null);
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(message));
+        } catch (Exception e) {
+            // 전파 실패 시 다른 인스턴스는 로컬 TTL 만료까지 이전 값을 볼 수 있음
+            log.error("캐시 무효화 메시지 발행 실패: cache={}", cacheName, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            InvalidationMessage invalidation = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), InvalidationMessage.class);
+            if (instanceId.equals(invalidation.origin())) {
+                return;
+            }
+            Consumer<Collection<String>> handler = handlers.get(invalidation.cacheName());
+            if (handler != null) {
+                handler.accept(invalidation.keys());
+            }
+        } catch (Exception e) {
+            log.error("캐시 무효화 메시지 처리 실패", e);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.mxxdone.miniproject.config.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mxxdone.miniproject.util.AfterCommit;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.data.redis.cache.RedisCache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로컬(Caffeine) + Redis 2단계 캐시
+ * 조회는 힙 -> Redis -> 원본 순서로 내려가고, Redis에서 읽은 값은 힙에 다시 채운다.
+ * 쓰기/삭제는 Redis에 반영한 뒤 CacheInvalidationBus로 다른 인스턴스의 힙 사본을 지운다.
+ * Redis 키에는 세대 번호가 붙어 있어 전체 삭제(clear)는 세대 번호 증가만으로 처리한다.
+ * 세대 번호는 메모리에 들고 있다가 clear 메시지를 받으면 버리고 다시 읽는다. (조회마다 Redis GET 추가 X)
+ * 메시지를 놓친 경우에 대비해 로컬 TTL이 지나면 한 번 다시 읽는다.
+ */
+public class TwoTierCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final Cache<String, Object> localCache;
+    private final RedisCache redisCache;
+    private final CacheInvalidationBus invalidationBus;
+    private final CacheGeneration cacheGeneration;
+    private final long generationTtlNanos;
+
+    // 세대 번호 메모리 사본 (null이면 다음 접근 때 Redis에서 읽음)
+    private volatile Generation generation;
+    // 무효화 횟수 - 읽는 도중 무효화되면 읽은 값을 저장하지 않음 (이전 세대가 다시 자리잡는 것 방지)
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private record Generation(long value, long loadedAt) {}
+
+    public TwoTierCache(String name, RedisCache redisCache, CacheInvalidationBus invalidationBus,
+                        CacheGeneration cacheGeneration, long maximumSize, Duration localTtl) {
+        super(false); // null 값은 캐싱하지 않음
+        this.name = name;
+        this.redisCache = redisCache;
+        this.invalidationBus = invalidationBus;
+        this.cacheGeneration = cacheGeneration;
+        this.generationTtlNanos = localTtl.toNanos();
+        // 로컬 TTL은 Redis TTL보다 짧게 -> 무효화 메시지를 놓쳐도 오래 어긋나지 않음
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(localTtl)
+                .build();
+        invalidationBus.register(name, keys -> {
+            if (keys == null) {
+                // 다른 인스턴스가 세대를 넘김
+                invalidations.incrementAndGet();
+                generation = null;
+                localCache.invalidateAll();
+            } else {
+                localCache.invalidateAll(keys);
+            }
+        });
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return redisCache.getNativeCache();
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String localKey = localKey(key);
+        Object value = localCache.getIfPresent(localKey);
+        if (value != null) {
+            return value;
+        }
+        ValueWrapper wrapper = redisCache.get(redisKey(key));
+        if (wrapper == null || wrapper.get() == null) {
+            return null;
+        }
+        localCache.put(localKey, wrapper.get());
+        return wrapper.get();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = localKey(key);
+        Object value = localCache.getIfPresent(localKey);
+        if (value != null) {
+            return (T) value;
+        }
+        // Redis에도 없으면 RedisCache가 동기화된 로딩으로 원본 조회
+        T loaded = redisCache.get(redisKey(key), valueLoader);
+        if (loaded != null) {
+            localCache.put(localKey, loaded);
+        }
+        return loaded;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        redisCache.put(redisKey(key), value);
+        String localKey = localKey(key);
+        if (value != null) {
+            localCache.put(localKey, value);
+        }
+        invalidationBus.publish(name, List.of(localKey));
+    }
+
+    @Override
+    public void evict(Object key) {
+        redisCache.evict(redisKey(key));
+        String localKey = localKey(key);
+        localCache.invalidate(localKey);
+        invalidationBus.publish(name, List.of(localKey));
+    }
+
+    // 트랜잭션 안이면 커밋 후에 비움
+    // (커밋 전에 비우면 다른 요청이 이전 데이터를 새 세대에 다시 채울 수 있음)
+    @Override
+    public void clear() {
+        AfterCommit.run(this::nextGeneration);
+    }
+
+    // 키를 지우는 대신 세대를 넘김 -> 이전 세대 키는 TTL로 만료
+    private void nextGeneration() {
+        long next = cacheGeneration.next(name);
+        invalidations.incrementAndGet();
+        generation = new Generation(next, System.nanoTime());
+        localCache.invalidateAll();
+        invalidationBus.publish(name, null);
+    }
+
+    // 실제 Redis 키: {캐시 이름}::g{세대}:{키}
+    private String redisKey(Object key) {
+        return "g" + currentGeneration() + ":" + key;
+    }
+
+    private long currentGeneration() {
+        Generation current = generation;
+        if (current != null && System.nanoTime() - current.loadedAt() < generationTtlNanos) {
+            return current.value();
+        }
+        long seen = invalidations.get();
+        long value = cacheGeneration.current(name);
+        if (invalidations.get() == seen) {
+            generation = new Generation(value, System.nanoTime());
+        }
+        return value;
+    }
+
+    // 인스턴스 간에 같은 키로 무효화할 수 있도록 문자열 키 사용 (RedisCache도 문자열로 변환해 저장)
+    private String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
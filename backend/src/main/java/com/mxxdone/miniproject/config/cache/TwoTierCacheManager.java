@@ -0,0 +1,47 @@
+package com.mxxdone.miniproject.config.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * RedisCacheManager가 만든 캐시마다 로컬(Caffeine) 계층을 덧씌우는 CacheManager
+ */
+public class TwoTierCacheManager implements CacheManager {
+
+    private final RedisCacheManager redisCacheManager;
+    private final CacheInvalidationBus invalidationBus;
+    private final CacheGeneration cacheGeneration;
+    private final long localMaximumSize;
+    private final Duration localTtl;
+    private final Map<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(RedisCacheManager redisCacheManager, CacheInvalidationBus invalidationBus,
+                               CacheGeneration cacheGeneration, long localMaximumSize, Duration localTtl) {
+        this.redisCacheManager = redisCacheManager;
+        this.invalidationBus = invalidationBus;
+        this.cacheGeneration = cacheGeneration;
+        this.localMaximumSize = localMaximumSize;
+        this.localTtl = localTtl;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, cacheName -> {
+            RedisCache redisCache = (RedisCache) redisCacheManager.getCache(cacheName);
+            return new TwoTierCache(cacheName, redisCache, invalidationBus, cacheGeneration, localMaximumSize, localTtl);
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+}
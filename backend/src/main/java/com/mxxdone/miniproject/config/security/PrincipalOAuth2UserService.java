@@ -4,8 +4,10 @@ import com.mxxdone.miniproject.config.oauth2.GoogleUserInfo;
 import com.mxxdone.miniproject.config.oauth2.OAuth2UserInfo;
 import com.mxxdone.miniproject.domain.Role;
 import com.mxxdone.miniproject.domain.User;
+import com.mxxdone.miniproject.dto.event.AdminStatsEvent;
 import com.mxxdone.miniproject.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
@@ -21,6 +23,7 @@ public class PrincipalOAuth2UserService extends DefaultOAuth2UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
@@ -47,6 +50,7 @@ public class PrincipalOAuth2UserService extends DefaultOAuth2UserService {
                     .provider(provider)
                     .build();
             userRepository.save(user);
+            eventPublisher.publishEvent(AdminStatsEvent.created(AdminStatsEvent.Metric.USERS, user.getCreatedAt()));
         }
         // 일반 회원(user), OAuth2 로그인을 통해 받아온 프로필 정보
         return new PrincipalDetails(user, oAuth2User.getAttributes());
@@ -24,6 +24,9 @@ import java.util.List;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    // 헤더 대신 스트림 티켓(쿼리 파라미터)을 받는 경로 - 브라우저 EventSource용
+    private static final String NOTIFICATION_STREAM_URI = "/api/v1/notifications/stream";
+
     private final JwtUtil jwtUtil;
 
     @Override
@@ -39,10 +42,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         String token = jwtUtil.getTokenFromRequest(request);
+        boolean fromTicket = false;
+        if (token == null && NOTIFICATION_STREAM_URI.equals(requestURI)) {
+            token = jwtUtil.getStreamTicketFromRequest(request);
+            fromTicket = token != null;
+        }
 
         if (StringUtils.hasText(token) && jwtUtil.validateToken(token)) {
             // 토큰에서 Claims(페이로드) 추출
             Claims info = jwtUtil.getUserInfoFromToken(token);
+            // 스트림 티켓은 스트림 연결에만, 액세스 토큰은 헤더로만 인정
+            if (jwtUtil.isStreamTicket(info) != fromTicket) {
+                filterChain.doFilter(request, response);
+                return;
+            }
             // Claims에서 유저명, pk, 권한 꺼내기
             String username = info.getSubject();
             String nickname = info.get("nickname", String.class);
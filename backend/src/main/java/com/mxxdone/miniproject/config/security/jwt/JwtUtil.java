@@ -26,6 +26,10 @@ public class JwtUtil {
     private SecretKey key;
     private static final long ACCESS_TOKEN_EXPIRATION_MINUTES  = 15; //토큰 유효시간 15분
     private static final long REFRESH_TOKEN_EXPIRATION_DAYS  = 7;
+    private static final long STREAM_TICKET_EXPIRATION_SECONDS = 60; // 알림 스트림 연결용 티켓 유효시간
+    private static final String TOKEN_TYPE_CLAIM = "typ";
+    private static final String STREAM_TICKET_TYPE = "stream";
+    private static final String STREAM_TICKET_PARAM = "ticket";
 
     @PostConstruct
     public void init() {
@@ -62,6 +66,38 @@ public class JwtUtil {
                 .compact();
     }
 
+    // 알림 스트림(SSE) 연결용 티켓 생성
+    // EventSource는 Authorization 헤더를 보낼 수 없으므로 쿼리 파라미터로 전달 -> URL에 남아도 되도록 짧게 유지
+    public String createStreamTicket(Long id, String username, String role, String nickname) {
+        Instant now = Instant.now();
+        Instant expiry = now.plus(STREAM_TICKET_EXPIRATION_SECONDS, ChronoUnit.SECONDS);
+
+        return Jwts.builder()
+                .subject(username)
+                .claim("id", id)
+                .claim("auth", role)
+                .claim("nickname", nickname)
+                .claim(TOKEN_TYPE_CLAIM, STREAM_TICKET_TYPE) // 스트림 연결에만 사용 가능
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(expiry))
+                .signWith(key)
+                .compact();
+    }
+
+    // 쿼리 파라미터에서 스트림 티켓 가져오기
+    public String getStreamTicketFromRequest(HttpServletRequest req) {
+        String ticket = req.getParameter(STREAM_TICKET_PARAM);
+        return StringUtils.hasText(ticket) ? ticket : null;
+    }
+
+    public boolean isStreamTicket(Claims claims) {
+        return STREAM_TICKET_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class));
+    }
+
+    public long getStreamTicketExpirationSeconds() {
+        return STREAM_TICKET_EXPIRATION_SECONDS;
+    }
+
     // Request Header에서 토큰 정보 가져오기
     public String getTokenFromRequest(HttpServletRequest req) {
         String bearerToken = req.getHeader("Authorization");
@@ -4,6 +4,7 @@ import com.mxxdone.miniproject.dto.admin.AdminSummaryResponseDto;
 import com.mxxdone.miniproject.dto.admin.DailyStatResponseDto;
 import com.mxxdone.miniproject.dto.admin.PopularPostResponseDto;
 import com.mxxdone.miniproject.dto.admin.RecentCommentResponseDto;
+import com.mxxdone.miniproject.dto.admin.ViewDedupReportDto;
 import com.mxxdone.miniproject.service.AdminStatsService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -64,7 +65,7 @@ public class AdminStatsController {
         return ResponseEntity.ok(adminStatsService.getRecentComments(limit));
     }
 
-    @Operation(summary = "일별 댓글 수 추이", description = "최근 N일 동안의 일별 댓글 작성 수를 날짜별로 그룹화하여 반환합니다.")
+    @Operation(summary = "일별 댓글 수 추이", description = "최근 N일 동안의 일별 댓글 작성 수를 반환합니다. (관리자 댓글 제외, 어제까지는 일별 롤업 기준)")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공"),
             @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
@@ -76,4 +77,67 @@ public class AdminStatsController {
             @RequestParam(defaultValue = "30") int days) {
         return ResponseEntity.ok(adminStatsService.getCommentsDailyStats(days));
     }
+
+    @Operation(summary = "일별 게시글 수 추이", description = "최근 N일 동안의 일별 게시글 작성 수를 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+            @ApiResponse(responseCode = "403", description = "접근 권한 없음")
+    })
+    @GetMapping("/posts-daily")
+    public ResponseEntity<List<DailyStatResponseDto>> getPostsDailyStats(
+            @Parameter(description = "조회할 최근 일수 (기본값: 30, 최대: 365)", example = "30")
+            @RequestParam(defaultValue = "30") int days) {
+        return ResponseEntity.ok(adminStatsService.getPostsDailyStats(days));
+    }
+
+    @Operation(summary = "일별 가입자 수 추이", description = "최근 N일 동안의 일별 신규 가입자 수를 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+            @ApiResponse(responseCode = "403", description = "접근 권한 없음")
+    })
+    @GetMapping("/users-daily")
+    public ResponseEntity<List<DailyStatResponseDto>> getUsersDailyStats(
+            @Parameter(description = "조회할 최근 일수 (기본값: 30, 최대: 365)", example = "30")
+            @RequestParam(defaultValue = "30") int days) {
+        return ResponseEntity.ok(adminStatsService.getUsersDailyStats(days));
+    }
+
+    @Operation(summary = "일별 조회수 추이", description = "최근 N일 동안의 일별 조회수 합계를 반환합니다. (중복 방지 통과분)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+            @ApiResponse(responseCode = "403", description = "접근 권한 없음")
+    })
+    @GetMapping("/views-daily")
+    public ResponseEntity<List<DailyStatResponseDto>> getViewsDailyStats(
+            @Parameter(description = "조회할 최근 일수 (기본값: 30, 최대: 365)", example = "30")
+            @RequestParam(defaultValue = "30") int days) {
+        return ResponseEntity.ok(adminStatsService.getViewsDailyStats(days));
+    }
+
+    @Operation(summary = "일별 좋아요 수 추이", description = "최근 N일 동안의 일별 좋아요 증감(좋아요 - 취소)을 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+            @ApiResponse(responseCode = "403", description = "접근 권한 없음")
+    })
+    @GetMapping("/likes-daily")
+    public ResponseEntity<List<DailyStatResponseDto>> getLikesDailyStats(
+            @Parameter(description = "조회할 최근 일수 (기본값: 30, 최대: 365)", example = "30")
+            @RequestParam(defaultValue = "30") int days) {
+        return ResponseEntity.ok(adminStatsService.getLikesDailyStats(days));
+    }
+
+    @Operation(summary = "조회수 중복 방지 리포트", description = "현재 사용 중인 조회수 중복 방지 엔진의 Redis 키 수, 메모리 사용량, 예상 오차율을 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+            @ApiResponse(responseCode = "403", description = "접근 권한 없음")
+    })
+    @GetMapping("/view-dedup")
+    public ResponseEntity<ViewDedupReportDto> getViewDedupReport() {
+        return ResponseEntity.ok(adminStatsService.getViewDedupReport());
+    }
 }
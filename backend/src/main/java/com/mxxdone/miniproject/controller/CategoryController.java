@@ -1,17 +1,30 @@
 package com.mxxdone.miniproject.controller;
 
+import com.mxxdone.miniproject.dto.PageDto;
 import com.mxxdone.miniproject.dto.category.CategoryResponseDto;
 import com.mxxdone.miniproject.dto.category.CategorySaveRequestDto;
+import com.mxxdone.miniproject.dto.post.PostDetailResponseDto;
+import com.mxxdone.miniproject.dto.post.PostSummaryResponseDto;
 import com.mxxdone.miniproject.service.CategoryService;
+import com.mxxdone.miniproject.service.PostService;
+import com.mxxdone.miniproject.util.ConditionalResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.Duration;
 import java.util.List;
 
 @RestController
@@ -21,6 +34,14 @@ import java.util.List;
 public class CategoryController {
 
     private final CategoryService categoryService;
+    private final PostService postService;
+
+    // 자주 바뀌지 않음 -> 1분 동안은 재검증 없이 사용, 이후 ETag로 재검증
+    private static final CacheControl CATEGORIES_CACHE_CONTROL = CacheControl.maxAge(Duration.ofMinutes(1)).cachePublic();
+    // 게시글 목록과 같은 정책 (공유 캐시 허용, 매번 ETag로 재검증)
+    private static final CacheControl POST_LIST_CACHE_CONTROL = CacheControl.noCache().cachePublic();
+    // 게시글 상세와 같은 정책 (사용자별 좋아요 여부 포함 -> 공유 캐시 저장 금지)
+    private static final CacheControl POST_DETAIL_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
 
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
@@ -35,8 +56,66 @@ public class CategoryController {
 
     @GetMapping
     @Operation(summary = "카테고리 목록 조회", description = "모든 카테고리를 계층 구조(부모-자식)로 조회합니다.")
-    @ApiResponse(responseCode = "200", description = "조회 성공")
-    public ResponseEntity<List<CategoryResponseDto>> getAllCategories() {
-        return ResponseEntity.ok(categoryService.findAll());
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)")
+    })
+    public ResponseEntity<List<CategoryResponseDto>> getAllCategories(WebRequest webRequest) {
+        return ConditionalResponse.of(webRequest, categoryService.findCategoriesETag(), CATEGORIES_CACHE_CONTROL,
+                categoryService::findAll);
+    }
+
+    // 프론트 라우트(/{parentSlug}/{childSlug}/posts/{id})와 같은 경로로 게시글 단건 조회
+    @GetMapping("/{parentSlug}/{childSlug}/posts/{id}")
+    @Operation(summary = "카테고리 slug로 게시글 단건 조회", description = "상위/하위 카테고리 slug와 게시글 ID로 게시글 상세를 조회합니다. 조회수가 1 증가합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
+            @ApiResponse(responseCode = "404", description = "존재하지 않는 카테고리 또는 해당 카테고리에 없는 게시글")
+    })
+    public ResponseEntity<PostDetailResponseDto> getPostBySlug(
+            @Parameter(description = "상위 카테고리 slug", example = "backend") @PathVariable String parentSlug,
+            @Parameter(description = "하위 카테고리 slug", example = "spring") @PathVariable String childSlug,
+            @Parameter(description = "조회할 게시글 ID") @PathVariable Long id,
+            HttpServletRequest request,
+            WebRequest webRequest) {
+        // 조회수 증가 (게시글 ID 기준 조회와 같은 정책)
+        postService.incrementViewCount(id, request);
+        PostService.DetailState detail = postService.findDetailBySlugPath(parentSlug + "/" + childSlug, id);
+        return ConditionalResponse.of(webRequest, detail.eTag(), detail.lastModified(), POST_DETAIL_CACHE_CONTROL,
+                detail::toResponse);
+    }
+
+    // 프론트 라우트(/{parentSlug}/{childSlug})와 같은 경로로 게시글 목록 조회
+    @GetMapping("/{parentSlug}/{childSlug}/posts")
+    @Operation(summary = "카테고리 slug로 게시글 목록 조회", description = "상위/하위 카테고리 slug로 게시글 목록을 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
+            @ApiResponse(responseCode = "404", description = "존재하지 않는 카테고리")
+    })
+    public ResponseEntity<PageDto<PostSummaryResponseDto>> getPostsByChildSlug(
+            @Parameter(description = "상위 카테고리 slug", example = "backend") @PathVariable String parentSlug,
+            @Parameter(description = "하위 카테고리 slug", example = "spring") @PathVariable String childSlug,
+            @PageableDefault(size = 6, sort = "id", direction = Sort.Direction.DESC) Pageable pageable,
+            WebRequest webRequest) {
+        String slugPath = parentSlug + "/" + childSlug;
+        return ConditionalResponse.of(webRequest, postService.findListETagBySlugPath(slugPath), POST_LIST_CACHE_CONTROL,
+                () -> postService.findPostsBySlugPath(slugPath, pageable));
+    }
+
+    @GetMapping("/{parentSlug}/posts")
+    @Operation(summary = "상위 카테고리 slug로 게시글 목록 조회", description = "상위 카테고리와 모든 하위 카테고리의 게시글 목록을 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
+            @ApiResponse(responseCode = "404", description = "존재하지 않는 카테고리")
+    })
+    public ResponseEntity<PageDto<PostSummaryResponseDto>> getPostsByParentSlug(
+            @Parameter(description = "상위 카테고리 slug", example = "backend") @PathVariable String parentSlug,
+            @PageableDefault(size = 6, sort = "id", direction = Sort.Direction.DESC) Pageable pageable,
+            WebRequest webRequest) {
+        return ConditionalResponse.of(webRequest, postService.findListETagBySlugPath(parentSlug), POST_LIST_CACHE_CONTROL,
+                () -> postService.findPostsBySlugPath(parentSlug, pageable));
     }
 }
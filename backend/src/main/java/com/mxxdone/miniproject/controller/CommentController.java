@@ -1,11 +1,14 @@
 package com.mxxdone.miniproject.controller;
 
 import com.mxxdone.miniproject.config.security.PrincipalDetails;
+import com.mxxdone.miniproject.dto.CursorPageDto;
 import com.mxxdone.miniproject.dto.comment.CommentResponseDto;
 import com.mxxdone.miniproject.dto.comment.CommentSaveRequestDto;
+import com.mxxdone.miniproject.dto.comment.CommentThreadResponseDto;
 import com.mxxdone.miniproject.dto.comment.CommentUpdateRequestDto;
 import com.mxxdone.miniproject.dto.comment.GuestPasswordRequestDto;
 import com.mxxdone.miniproject.service.CommentService;
+import com.mxxdone.miniproject.util.ConditionalResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -13,9 +16,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -27,6 +32,9 @@ public class CommentController {
 
     private final CommentService commentService;
 
+    // 모든 사용자에게 같은 응답 -> 공유 캐시 허용, 매번 ETag로 재검증
+    private static final CacheControl COMMENTS_CACHE_CONTROL = CacheControl.noCache().cachePublic();
+
     @PostMapping
     @Operation(summary = "댓글 작성", description = "회원 또는 익명(게스트) 사용자가 댓글을 작성합니다.")
     @ApiResponses({
@@ -46,12 +54,51 @@ public class CommentController {
     @Operation(summary = "게시글별 댓글 조회", description = "특정 게시글에 달린 댓글 목록을 조회합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
             @ApiResponse(responseCode = "404", description = "게시글이 존재하지 않음")
     })
     public ResponseEntity<List<CommentResponseDto>> getCommentByPost(
-            @Parameter(description = "게시글 ID", example = "1", required = true) @PathVariable Long postId
+            @Parameter(description = "게시글 ID", example = "1", required = true) @PathVariable Long postId,
+            WebRequest webRequest
+    ) {
+        return ConditionalResponse.of(webRequest, commentService.findCommentsETag(postId), COMMENTS_CACHE_CONTROL,
+                () -> commentService.findByPostId(postId));
+    }
+
+    @GetMapping("/post/{postId}/threads")
+    @Operation(summary = "게시글별 댓글 스레드 조회 (커서 기반)",
+            description = "루트 댓글을 작성 순으로 커서 페이징하여, 각 댓글의 답글 수와 먼저 작성된 답글 일부를 함께 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서")
+    })
+    public ResponseEntity<CursorPageDto<CommentThreadResponseDto>> getCommentThreads(
+            @Parameter(description = "게시글 ID", example = "1", required = true) @PathVariable Long postId,
+            @Parameter(description = "이전 응답의 nextCursor (없을 시 첫 페이지)") @RequestParam(required = false) String after,
+            @Parameter(description = "루트 댓글 수 (최대 50)") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "댓글마다 함께 받을 답글 수 (최대 10)") @RequestParam(defaultValue = "3") int replies,
+            WebRequest webRequest
+    ) {
+        return ConditionalResponse.of(webRequest, commentService.findCommentsETag(postId), COMMENTS_CACHE_CONTROL,
+                () -> commentService.findThreads(postId, after, size, replies));
+    }
+
+    @GetMapping("/{commentId}/replies")
+    @Operation(summary = "답글 조회 (커서 기반)", description = "특정 댓글의 바로 아래 답글을 작성 순으로 커서 페이징하여 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서")
+    })
+    public ResponseEntity<CursorPageDto<CommentThreadResponseDto>> getReplies(
+            @Parameter(description = "댓글 ID", example = "10", required = true) @PathVariable Long commentId,
+            @Parameter(description = "이전 응답의 nextCursor (없을 시 첫 페이지)") @RequestParam(required = false) String after,
+            @Parameter(description = "답글 수 (최대 50)") @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest
     ) {
-        return ResponseEntity.ok(commentService.findByPostId(postId));
+        return ConditionalResponse.of(webRequest, commentService.findRepliesETag(commentId), COMMENTS_CACHE_CONTROL,
+                () -> commentService.findReplies(commentId, after, size));
     }
 
     @PutMapping("/{commentId}")
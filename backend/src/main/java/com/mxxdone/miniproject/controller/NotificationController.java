@@ -1,17 +1,25 @@
 package com.mxxdone.miniproject.controller;
 
 import com.mxxdone.miniproject.config.security.PrincipalDetails;
+import com.mxxdone.miniproject.dto.CursorPageDto;
+import com.mxxdone.miniproject.dto.notification.NotificationReadRequestDto;
 import com.mxxdone.miniproject.dto.notification.NotificationResponseDto;
+import com.mxxdone.miniproject.dto.notification.StreamTicketResponseDto;
 import com.mxxdone.miniproject.service.NotificationService;
+import com.mxxdone.miniproject.service.NotificationStreamService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -22,17 +30,72 @@ import java.util.List;
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final NotificationStreamService notificationStreamService;
+
+    // 알림 스트림 연결 티켓 발급
+    @PostMapping("/stream-ticket")
+    @Operation(summary = "알림 스트림 연결 티켓 발급", description = "브라우저 EventSource는 Authorization 헤더를 보낼 수 없으므로, 발급받은 티켓을 /stream?ticket= 으로 전달해 연결합니다. 티켓은 60초 동안 유효하며 스트림 연결에만 사용할 수 있습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "발급 성공"),
+            @ApiResponse(responseCode = "401", description = "로그인 필요")
+    })
+    public ResponseEntity<StreamTicketResponseDto> issueStreamTicket(
+            @Parameter(hidden = true) @AuthenticationPrincipal PrincipalDetails principalDetails) {
+        return ResponseEntity.ok(notificationStreamService.issueTicket(principalDetails));
+    }
+
+    // 알림 실시간 구독 (SSE)
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "알림 실시간 구독 (SSE)", description = """
+            연결을 유지하며 새 알림을 notification 이벤트로 받습니다.
+            인증: Authorization 헤더 또는 ticket 파라미터(/stream-ticket에서 발급, EventSource용).
+            놓친 알림: Last-Event-ID 헤더(브라우저 자동 재연결) 또는 lastEventId 파라미터 이후 알림을 다시 보내줍니다.
+            티켓이 만료되어 자동 재연결이 401로 끝나면, 새 티켓을 받아 마지막으로 받은 알림 id를 lastEventId로 넘겨 다시 연결합니다.""")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "구독 성공 (text/event-stream)"),
+            @ApiResponse(responseCode = "401", description = "로그인 필요 또는 티켓 만료")
+    })
+    public SseEmitter stream(
+            @Parameter(description = "마지막으로 받은 알림 ID (브라우저가 재연결 시 자동 전송)")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+            @Parameter(description = "마지막으로 받은 알림 ID (새 EventSource로 다시 연결할 때)")
+            @RequestParam(value = "lastEventId", required = false) String lastEventIdParam,
+            @Parameter(description = "스트림 연결 티켓 (Authorization 헤더 대신, JwtAuthenticationFilter에서 검증)")
+            @RequestParam(value = "ticket", required = false) String ticket,
+            @Parameter(hidden = true) @AuthenticationPrincipal PrincipalDetails principalDetails,
+            HttpServletResponse response) {
+        // Nginx 프록시 버퍼링 비활성화 (이벤트가 모였다가 한꺼번에 전달되는 것 방지)
+        response.setHeader("X-Accel-Buffering", "no");
+        String lastEventId = lastEventIdHeader != null ? lastEventIdHeader : lastEventIdParam;
+        return notificationStreamService.subscribe(principalDetails.getId(), lastEventId);
+    }
 
     // 알림 목록 조회
     @GetMapping
-    @Operation(summary = "알림 목록 조회", description = "로그인한 사용자의 읽지 않은 알림 목록을 최신순으로 조회합니다.")
+    @Operation(summary = "알림 목록 조회", description = "로그인한 사용자의 읽지 않은 알림을 최신순으로 최대 50건 조회합니다. 이전 알림은 내역 조회를 사용합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공"),
             @ApiResponse(responseCode = "401", description = "로그인 필요")
     })
     public ResponseEntity<List<NotificationResponseDto>> getNotifications(
             @Parameter(hidden = true) @AuthenticationPrincipal PrincipalDetails principalDetails) {
-        return ResponseEntity.ok(notificationService.findAllByUsername(principalDetails.getUsername()));
+        return ResponseEntity.ok(notificationService.findUnread(principalDetails.getId()));
+    }
+
+    // 알림 내역 조회 (커서 페이징)
+    @GetMapping("/history")
+    @Operation(summary = "알림 내역 조회", description = "읽은 알림을 포함한 알림 내역을 최신순으로 커서 페이징 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서"),
+            @ApiResponse(responseCode = "401", description = "로그인 필요")
+    })
+    public ResponseEntity<CursorPageDto<NotificationResponseDto>> getHistory(
+            @Parameter(description = "읽음 여부 필터 (없을 시 전체)", example = "true") @RequestParam(required = false) Boolean read,
+            @Parameter(description = "이전 응답의 nextCursor (없을 시 첫 페이지)") @RequestParam(required = false) String after,
+            @Parameter(description = "페이지 크기 (1~50)", example = "20") @RequestParam(defaultValue = "20") int size,
+            @Parameter(hidden = true) @AuthenticationPrincipal PrincipalDetails principalDetails) {
+        return ResponseEntity.ok(notificationService.findHistory(principalDetails.getId(), read, after, size));
     }
 
     // 안 읽은 알림 개수
@@ -41,7 +104,7 @@ public class NotificationController {
     @ApiResponse(responseCode = "200", description = "조회 성공")
     public ResponseEntity<Long> getUnreadCount(
             @Parameter(hidden = true) @AuthenticationPrincipal PrincipalDetails principalDetails) {
-        return ResponseEntity.ok(notificationService.countUnreadNotifications(principalDetails.getUsername()));
+        return ResponseEntity.ok(notificationService.countUnread(principalDetails.getId()));
     }
 
     // 알림 읽음 처리
@@ -55,16 +118,28 @@ public class NotificationController {
     public ResponseEntity<Void> markAsRead(
             @Parameter(description = "알림 ID", example = "1") @PathVariable Long id,
             @Parameter(hidden = true) @AuthenticationPrincipal PrincipalDetails principalDetails) {
-        notificationService.markAsRead(id, principalDetails.getUsername());
+        notificationService.markAsRead(id, principalDetails.getId());
         return ResponseEntity.ok().build();
     }
 
+    // 선택한 알림 읽음 처리
+    @PatchMapping("/read")
+    @Operation(summary = "선택한 알림 읽음 처리", description = "여러 알림을 한 번에 읽음 상태로 변경하고 처리된 개수를 반환합니다. 본인 알림이 아니거나 이미 읽은 알림은 무시됩니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "처리 성공"),
+            @ApiResponse(responseCode = "400", description = "ID 목록이 비어 있거나 100개 초과")
+    })
+    public ResponseEntity<Integer> markSelectedAsRead(
+            @Valid @RequestBody NotificationReadRequestDto requestDto,
+            @Parameter(hidden = true) @AuthenticationPrincipal PrincipalDetails principalDetails) {
+        return ResponseEntity.ok(notificationService.markAsRead(requestDto.ids(), principalDetails.getId()));
+    }
+
     @PatchMapping("/read-all")
-    @Operation(summary = "알림 전체 읽음 처리", description = "사용자의 모든 알림을 읽음 상태로 변경합니다.")
+    @Operation(summary = "알림 전체 읽음 처리", description = "사용자의 모든 알림을 읽음 상태로 변경하고 처리된 개수를 반환합니다.")
     @ApiResponse(responseCode = "200", description = "처리 성공")
-    public ResponseEntity<Void> markAllAsRead(
+    public ResponseEntity<Integer> markAllAsRead(
             @Parameter(hidden = true) @AuthenticationPrincipal PrincipalDetails principalDetails) {
-        notificationService.markAllAsRead(principalDetails.getUsername());
-        return ResponseEntity.ok().build();
+        return ResponseEntity.ok(notificationService.markAllAsRead(principalDetails.getId()));
     }
 }
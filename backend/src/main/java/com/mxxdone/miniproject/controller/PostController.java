@@ -1,9 +1,11 @@
 package com.mxxdone.miniproject.controller;
 
 import com.mxxdone.miniproject.config.security.PrincipalDetails;
+import com.mxxdone.miniproject.dto.CursorPageDto;
 import com.mxxdone.miniproject.dto.PageDto;
 import com.mxxdone.miniproject.dto.post.*;
 import com.mxxdone.miniproject.service.PostService;
+import com.mxxdone.miniproject.util.ConditionalResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -15,10 +17,12 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -26,6 +30,11 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "게시글 API", description = "게시글 작성, 조회, 수정, 삭제 및 좋아요 기능을 제공합니다.")
 public class PostController {
 
+    // 상세: 사용자별 좋아요 여부가 포함되므로 공유 캐시(CDN) 저장 금지, 매번 ETag로 재검증
+    private static final CacheControl DETAIL_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+    // 목록: 모든 사용자에게 같은 응답 -> 공유 캐시 허용, 매번 ETag로 재검증
+    private static final CacheControl LIST_CACHE_CONTROL = CacheControl.noCache().cachePublic();
+
     private final PostService postService;
 
     // 게시글 생성 API
@@ -87,31 +96,58 @@ public class PostController {
     @Operation(summary = "게시글 단건 조회", description = "게시글의 상세 내용을 조회합니다. 조회수가 1 증가합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
             @ApiResponse(responseCode = "404", description = "게시글을 찾을 수 없음")
     })
     public ResponseEntity<PostDetailResponseDto> getPost(
             @Parameter(description = "조회할 게시글 ID") @PathVariable Long id,
-            HttpServletRequest request
+            HttpServletRequest request,
+            WebRequest webRequest
     ) {
         // 조회수 증가
         postService.incrementViewCount(id, request);
-        // 게시글 정보 조회
-        PostDetailResponseDto responseDto = postService.findById(id);
-        return ResponseEntity.ok(responseDto);
+        // 게시글 정보 조회 (ETag와 본문을 같은 상태로 만듦)
+        PostService.DetailState detail = postService.findDetail(id);
+        // 내용/카운트/좋아요 여부가 그대로면 본문 없이 304
+        // Last-Modified는 본문 수정 시각 (If-None-Match를 함께 보내면 카운트 변화는 ETag로 판단)
+        return ConditionalResponse.of(webRequest, detail.eTag(), detail.lastModified(), DETAIL_CACHE_CONTROL,
+                detail::toResponse);
     }
 
     // 게시글 목록 조회 API
     @GetMapping
     @Operation(summary = "게시글 목록 조회 (검색/페이징)", description = "카테고리, 검색어, 페이징 조건에 맞는 게시글 목록을 반환합니다.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "조회 성공")
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)")
     })
     public ResponseEntity<PageDto<PostSummaryResponseDto>> getPosts(
             @Parameter(description = "카테고리 ID (없을 시 전체 조회)") @RequestParam(required = false) Long categoryId,
             @Parameter(description = "검색 유형 (title, content, all)") @RequestParam(required = false, defaultValue = "all") String type,
             @Parameter(description = "검색어") @RequestParam(required = false) String keyword,
-            @PageableDefault(size = 6, sort = "id", direction = Sort.Direction.DESC) Pageable pageable) {
-        return ResponseEntity.ok(postService.findPosts(categoryId, type, keyword, pageable));
+            @PageableDefault(size = 6, sort = "id", direction = Sort.Direction.DESC) Pageable pageable,
+            WebRequest webRequest) {
+        return ConditionalResponse.of(webRequest, postService.findListETag(categoryId), LIST_CACHE_CONTROL,
+                () -> postService.findPosts(categoryId, type, keyword, pageable));
+    }
+
+    // 게시글 목록 조회 API (커서 기반)
+    @GetMapping("/cursor")
+    @Operation(summary = "게시글 목록 조회 (커서 기반)", description = "마지막으로 받은 게시글 ID(after) 이후의 게시글을 최신순으로 반환합니다. 전체 개수(count)는 계산하지 않습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
+            @ApiResponse(responseCode = "404", description = "존재하지 않는 카테고리")
+    })
+    public ResponseEntity<CursorPageDto<PostSummaryResponseDto>> getPostsByCursor(
+            @Parameter(description = "카테고리 ID (없을 시 전체 조회)") @RequestParam(required = false) Long categoryId,
+            @Parameter(description = "검색 유형 (title, content, all)") @RequestParam(required = false, defaultValue = "all") String type,
+            @Parameter(description = "검색어") @RequestParam(required = false) String keyword,
+            @Parameter(description = "이전 응답의 nextCursor (없을 시 첫 페이지)") @RequestParam(required = false) Long after,
+            @Parameter(description = "페이지 크기 (최대 50)") @RequestParam(defaultValue = "6") int size,
+            WebRequest webRequest) {
+        return ConditionalResponse.of(webRequest, postService.findListETag(categoryId), LIST_CACHE_CONTROL,
+                () -> postService.findPostsByCursor(categoryId, type, keyword, after, size));
     }
 
     // 게시글 좋아요 API
@@ -126,7 +162,7 @@ public class PostController {
     public ResponseEntity<Void> toggleLike(
             @Parameter(description = "게시글 ID") @PathVariable Long id,
             @Parameter(hidden = true) @AuthenticationPrincipal PrincipalDetails principalDetails) {
-        postService.toggleLike(id, principalDetails.getUser());
+        postService.toggleLike(id, principalDetails.getId());
         return ResponseEntity.ok().build();
     }
 }
@@ -0,0 +1,54 @@
+package com.mxxdone.miniproject.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * KST 하루 단위 활동 통계 (롤업 테이블)
+ * 관리자 일별 추이 조회 시 원본 테이블을 날짜 함수로 GROUP BY 하지 않도록
+ * DailyStatsRollupJob이 지난 날짜를 한 행씩 미리 집계해 둔다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "daily_stats")
+public class DailyStats {
+
+    // KST 기준 날짜
+    @Id
+    @Column(name = "stat_date")
+    private LocalDate statDate;
+
+    // 그날 작성되어 집계 시점에 남아 있는 게시글 수
+    @Column(nullable = false)
+    private long posts;
+
+    // 그날 작성되어 집계 시점에 남아 있는 댓글 수 (관리자 댓글 제외)
+    @Column(nullable = false)
+    private long comments;
+
+    // 그날 가입해 집계 시점에 남아 있는 회원 수 (탈퇴 회원 제외)
+    @Column(nullable = false)
+    private long signups;
+
+    // 그날 증가한 조회수 (중복 방지 통과분)
+    @Column(nullable = false)
+    private long views;
+
+    // 그날 좋아요 증감 (좋아요 - 취소)
+    @Column(nullable = false)
+    private long likes;
+
+    public DailyStats(LocalDate statDate, long posts, long comments, long signups, long views, long likes) {
+        this.statDate = statDate;
+        this.posts = posts;
+        this.comments = comments;
+        this.signups = signups;
+        this.views = views;
+        this.likes = likes;
+    }
+}
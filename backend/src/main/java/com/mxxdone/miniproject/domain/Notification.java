@@ -14,6 +14,12 @@ import java.time.Instant;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
+@Table(indexes = {
+        // 사용자별 안 읽은/읽은 알림 최신순 조회
+        @Index(name = "idx_notification_receiver_read_created", columnList = "receiver_id, is_read, created_at"),
+        // 사용자별 전체 알림 내역 최신순 조회
+        @Index(name = "idx_notification_receiver_created", columnList = "receiver_id, created_at")
+})
 public class Notification {
 
     @Id
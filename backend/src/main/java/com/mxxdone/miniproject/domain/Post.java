@@ -33,6 +33,10 @@ public class Post extends BaseTimeEntity {
     @Column(columnDefinition = "TEXT") // content는 내용이 길어질 수 있으므로 TEXT 타입으로 설정
     private String content;
 
+    // 목록 조회용 순수 텍스트 요약 (본문 TEXT 컬럼을 목록에서 읽지 않기 위함)
+    @Column(length = 300)
+    private String excerpt;
+
     @Column
     private Long userId;
 
@@ -57,10 +61,15 @@ public class Post extends BaseTimeEntity {
     @Column(name = "like_count", nullable = false)
     private int likeCount = 0;
 
+    // 삭제되지 않은 댓글 수 (댓글 작성/삭제 시 함께 갱신, CommentCountReconcileJob이 주기적으로 보정)
+    @Column(name = "comment_count", nullable = false)
+    private int commentCount = 0;
+
     @Builder
-    public Post(String title, String content, Category category, Long userId, String authorUsername, String authorNickname, String thumbnailUrl) {
+    public Post(String title, String content, String excerpt, Category category, Long userId, String authorUsername, String authorNickname, String thumbnailUrl) {
         this.title = title;
         this.content = content;
+        this.excerpt = excerpt;
         this.category = category;
         this.userId = userId;
         this.authorUsername = authorUsername;
@@ -69,9 +78,10 @@ public class Post extends BaseTimeEntity {
     }
 
     // 수정 편의 메서드 추가
-    public void update(String title, String content, Category category, String thumbnailUrl) {
+    public void update(String title, String content, String excerpt, Category category, String thumbnailUrl) {
         this.title = title;
         this.content = content;
+        this.excerpt = excerpt;
         // category가 null이 아닐 경우에만 업데이트 (null이면 기존 카테고리 유지)
         if (category != null) {
             this.category = category;
@@ -0,0 +1,29 @@
+package com.mxxdone.miniproject.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 조회수 스냅샷 반영 기록
+ * ViewCountService가 스냅샷을 post.view_count에 더할 때 같은 트랜잭션에서 한 행을 넣는다.
+ * 이미 기록된 스냅샷은 다시 더하지 않음 -> 반영 후 Redis 정리 전에 실패해도 중복 집계 없음
+ * (JDBC로만 쓰고 읽으며, 엔티티는 스키마 정의용)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "view_count_flush")
+public class ViewCountFlush {
+
+    // 스냅샷 id (UUID)
+    @Id
+    @Column(name = "snapshot_id", length = 36)
+    private String snapshotId;
+
+    @Column(name = "applied_at", nullable = false)
+    private Instant appliedAt;
+}
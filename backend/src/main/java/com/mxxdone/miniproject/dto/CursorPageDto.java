@@ -0,0 +1,23 @@
+package com.mxxdone.miniproject.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+// 커서(키셋) 기반 페이징 결과 DTO
+// count 쿼리 없이 다음 페이지 존재 여부와 다음 커서만 전달
+public record CursorPageDto<T>(
+        List<T> content,
+        String nextCursor, // 다음 요청에 그대로 전달할 커서 (마지막 페이지면 null)
+        boolean hasNext,
+        int size
+) {
+    // size + 1 건을 조회한 결과로 CursorPageDto 생성
+    // 초과 조회된 1건은 다음 페이지 존재 여부 판단에만 사용하고 버림
+    public static <T> CursorPageDto<T> of(List<T> fetched, int size, Function<T, String> cursorExtractor) {
+        boolean hasNext = fetched.size() > size;
+        List<T> content = new ArrayList<>(hasNext ? fetched.subList(0, size) : fetched);
+        String nextCursor = hasNext ? cursorExtractor.apply(content.get(content.size() - 1)) : null;
+        return new CursorPageDto<>(content, nextCursor, hasNext, size);
+    }
+}
@@ -0,0 +1,38 @@
+package com.mxxdone.miniproject.dto;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 작성/생성일시 기준 키셋 커서 (작성일시, id) - 댓글 스레드, 알림 내역에서 공통 사용
+ * 작성일시가 같은 행이 있어도 id로 순서가 정해지도록 두 값을 함께 사용
+ * 문자열 형식: {ISO-8601 작성일시}_{id}
+ */
+public record KeysetCursor(Instant createdAt, Long id) {
+
+    private static final String DELIMITER = "_";
+
+    public static KeysetCursor of(Instant createdAt, Long id) {
+        return new KeysetCursor(createdAt, id);
+    }
+
+    // null 이면 첫 페이지
+    public static KeysetCursor parse(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        int index = cursor.lastIndexOf(DELIMITER);
+        try {
+            return new KeysetCursor(
+                    Instant.parse(cursor.substring(0, index)),
+                    Long.parseLong(cursor.substring(index + 1))
+            );
+        } catch (DateTimeParseException | NumberFormatException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+    }
+
+    public String encode() {
+        return createdAt + DELIMITER + id;
+    }
+}
@@ -0,0 +1,26 @@
+package com.mxxdone.miniproject.dto.admin;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "조회수 중복 방지 엔진 메모리/정확도 리포트 DTO")
+public record ViewDedupReportDto(
+
+        @Schema(description = "사용 중인 엔진 (key, hll, bloom)", example = "bloom")
+        String engine,
+
+        @Schema(description = "중복 방지용 Redis 키 개수", example = "120")
+        long keyCount,
+
+        @Schema(description = "중복 방지용 Redis 키 메모리 사용량 (bytes)", example = "983040")
+        long memoryBytes,
+
+        @Schema(description = "키 개수가 많아 일부만 집계했는지 여부", example = "false")
+        boolean sampled,
+
+        @Schema(description = "예상 조회수 집계 오차율 (key: 0, bloom: 새 방문을 중복으로 판단할 확률, hll: 고유 방문자 추정치의 표준 오차)", example = "0.0012")
+        double expectedCountErrorRate,
+
+        @Schema(description = "엔진 설명")
+        String description
+) {
+}
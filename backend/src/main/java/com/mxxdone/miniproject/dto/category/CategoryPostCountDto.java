@@ -0,0 +1,5 @@
+package com.mxxdone.miniproject.dto.category;
+
+// 카테고리별 게시글 수 (GROUP BY 집계 결과, 하위 카테고리 미포함)
+public record CategoryPostCountDto(Long categoryId, long postCount) {
+}
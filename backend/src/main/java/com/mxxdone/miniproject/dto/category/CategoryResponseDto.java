@@ -1,11 +1,9 @@
 package com.mxxdone.miniproject.dto.category;
 
-import com.mxxdone.miniproject.domain.Category;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.io.Serializable;
 import java.util.List;
-import java.util.stream.Collectors;
 
 // Serializable:
 // 스프링의 캐시 기능에게 이 객체를 어떻게 바이트로 변환하고
@@ -29,28 +27,5 @@ public record CategoryResponseDto(
         List<CategoryResponseDto> children
 
 ) implements Serializable {
-
-    // category 객체로부터(from) CategoryReponseDto를 만든다
-    public static CategoryResponseDto from(Category category) {
-
-        // 자식 DTO 생성
-        List<CategoryResponseDto> childrenDtos = category.getChildren().stream()
-                .map(CategoryResponseDto::from)
-                .collect(Collectors.toList());
-
-        // 자식 카테고리들의 게시글 수 합산
-        long childrenPostCount = childrenDtos.stream()
-                .mapToLong(CategoryResponseDto::postCount)
-                .sum();
-
-        long totalPostCount = category.getPosts().size() + childrenPostCount;
-
-        return new CategoryResponseDto(
-                category.getId(),
-                category.getName(),
-                category.getSlug(),
-                totalPostCount,
-                childrenDtos
-        );
-    }
+    // 트리 조립은 CategoryTreeBuilder에서 (평면 조회 + 게시글 수 집계)
 }
@@ -0,0 +1,14 @@
+package com.mxxdone.miniproject.dto.category;
+
+/**
+ * 카테고리 트리 조립용 평면(flat) 조회 결과
+ * 전체 카테고리를 부모 id와 함께 한 번에 조회한 뒤 메모리에서 트리로 만든다.
+ */
+public record CategoryRowDto(
+        Long id,
+        Long parentId,
+        String name,
+        String slug,
+        Integer displayOrder
+) {
+}
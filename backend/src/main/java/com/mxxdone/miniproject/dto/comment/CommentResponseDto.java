@@ -1,6 +1,5 @@
 package com.mxxdone.miniproject.dto.comment;
 
-import com.mxxdone.miniproject.domain.Comment;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.Instant;
@@ -35,13 +34,13 @@ public record CommentResponseDto(
         @Schema(description = "수정 일시")
         Instant updatedAt
 ) {
-    public static CommentResponseDto from(Comment comment) {
+    public static CommentResponseDto of(CommentRowDto row, List<CommentResponseDto> children) {
         // 댓글 로직: 작성자 닉네임 결정 (스냅샷 우선 -> 비회원 이름 -> 알수없음)
-        String displayNickname = comment.getAuthorNickname();
-        String displayUsername = comment.getAuthorUsername();
+        String displayNickname = row.authorNickname();
+        String displayUsername = row.authorUsername();
 
         if (displayNickname == null) {
-            displayNickname = comment.getGuestName();
+            displayNickname = row.guestName();
         }
 
         if (displayNickname == null) {
@@ -49,17 +48,15 @@ public record CommentResponseDto(
         }
 
         return new CommentResponseDto(
-                comment.getId(),
-                comment.isDeleted() ? "삭제된 댓글입니다." : comment.getContent(),
+                row.id(),
+                row.isDeleted() ? "삭제된 댓글입니다." : row.content(),
                 displayUsername, // 스냅샷 아이디 (비회원은 null)
                 displayNickname,
-                comment.getAuthorUsername() == null, // 작성자가 없으면 true
-                comment.isDeleted(),
-                comment.getChildren().stream()
-                        .map(CommentResponseDto::from)
-                        .toList(),
-                comment.getCreatedAt(),
-                comment.getUpdatedAt()
+                row.authorUsername() == null, // 작성자가 없으면 true
+                row.isDeleted(),
+                children,
+                row.createdAt(),
+                row.updatedAt()
         );
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,25 @@
+package com.mxxdone.miniproject.dto.comment;
+
+import com.querydsl.core.annotations.QueryProjection;
+
+import java.time.Instant;
+
+/**
+ * 댓글 트리 조립용 평면(flat) 조회 결과
+ * 게시글의 모든 댓글을 부모 id와 함께 한 번에 조회한 뒤 메모리에서 트리로 만든다.
+ */
+public record CommentRowDto(
+        Long id,
+        Long parentId,
+        String content,
+        String authorUsername,
+        String authorNickname,
+        String guestName,
+        boolean isDeleted,
+        Instant createdAt,
+        Instant updatedAt
+) {
+    // 수정시 clean build 필요
+    @QueryProjection
+    public CommentRowDto {}
+}
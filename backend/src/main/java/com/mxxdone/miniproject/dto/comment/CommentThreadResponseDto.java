@@ -0,0 +1,21 @@
+package com.mxxdone.miniproject.dto.comment;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "댓글 스레드 응답 DTO (댓글 + 답글 수 + 미리보기 답글)")
+public record CommentThreadResponseDto(
+        @Schema(description = "댓글 (children은 비어 있음, 답글은 replies / 답글 조회 API로 조회)")
+        CommentResponseDto comment,
+
+        @Schema(description = "바로 아래 답글 수 (삭제된 답글 포함)", example = "12")
+        long replyCount,
+
+        @Schema(description = "먼저 작성된 답글 미리보기 (최대 replies 개)")
+        List<CommentThreadResponseDto> replies
+) {
+    public static CommentThreadResponseDto of(CommentRowDto row, long replyCount, List<CommentThreadResponseDto> replies) {
+        return new CommentThreadResponseDto(CommentResponseDto.of(row, List.of()), replyCount, replies);
+    }
+}
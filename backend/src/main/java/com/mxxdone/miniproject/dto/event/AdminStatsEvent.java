@@ -0,0 +1,38 @@
+package com.mxxdone.miniproject.dto.event;
+
+import java.time.Instant;
+
+/**
+ * 관리자 대시보드 요약 카운터 변경 이벤트
+ * 게시글/회원/댓글 작성·삭제 시 발행하고, 커밋 후 AdminSummaryCounterService가 카운터에 반영한다.
+ *
+ * @param metric    변경된 항목 (null이면 전체 재집계)
+ * @param delta     증감 값 (+1: 생성, -1: 삭제)
+ * @param createdAt 대상의 작성 시각 (오늘 작성분 카운터 반영 여부 판단용)
+ */
+public record AdminStatsEvent(
+        Metric metric,
+        long delta,
+        Instant createdAt
+) {
+    public enum Metric {
+        POSTS, USERS, COMMENTS
+    }
+
+    public static AdminStatsEvent created(Metric metric, Instant createdAt) {
+        return new AdminStatsEvent(metric, 1, createdAt);
+    }
+
+    public static AdminStatsEvent deleted(Metric metric, Instant createdAt) {
+        return new AdminStatsEvent(metric, -1, createdAt);
+    }
+
+    // 증감으로 표현하기 어려운 변경 (게시글 삭제로 댓글이 한꺼번에 삭제되는 경우 등)
+    public static AdminStatsEvent recount() {
+        return new AdminStatsEvent(null, 0, null);
+    }
+
+    public boolean isRecount() {
+        return metric == null;
+    }
+}
@@ -0,0 +1,16 @@
+package com.mxxdone.miniproject.dto.notification;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record NotificationReadRequestDto(
+
+        @Schema(description = "읽음 처리할 알림 ID 목록", example = "[1, 2, 3]")
+        @NotEmpty(message = "알림 ID를 하나 이상 입력해주세요.")
+        @Size(max = 100, message = "한 번에 100개까지 처리할 수 있습니다.")
+        List<Long> ids
+) {
+}
@@ -0,0 +1,13 @@
+package com.mxxdone.miniproject.dto.notification;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "알림 스트림 연결 티켓 응답 DTO")
+public record StreamTicketResponseDto(
+        @Schema(description = "스트림 연결 티켓 (/stream?ticket= 로 전달)", example = "eyJhbGciOiJIUzI1NiJ9...")
+        String ticket,
+
+        @Schema(description = "유효 시간(초) - 만료 후 재연결은 새 티켓으로", example = "60")
+        long expiresIn
+) {
+}
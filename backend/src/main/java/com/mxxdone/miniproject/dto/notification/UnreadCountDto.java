@@ -0,0 +1,5 @@
+package com.mxxdone.miniproject.dto.notification;
+
+// 수신자별 안 읽은 알림 수 (GROUP BY 집계 결과)
+public record UnreadCountDto(Long receiverId, long count) {
+}
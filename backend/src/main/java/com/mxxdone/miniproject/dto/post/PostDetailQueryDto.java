@@ -0,0 +1,30 @@
+package com.mxxdone.miniproject.dto.post;
+
+import com.querydsl.core.annotations.QueryProjection;
+
+import java.time.Instant;
+
+/**
+ * 게시글 상세 조회 단일 쿼리 결과
+ * 게시글 + 카테고리 + 댓글 수를 한 번에 조회
+ * (상위 카테고리 경로는 깊이와 상관없이 카테고리 인덱스에서 계산)
+ * 사용자와 무관한 값만 담고 있어 그대로 상세 캐시에 저장한다.
+ */
+public record PostDetailQueryDto(
+        Long id,
+        String title,
+        String content,
+        Long categoryId,
+        String categoryName,
+        String authorUsername,
+        String authorNickname,
+        int viewCount,
+        int likeCount,
+        long commentCount,
+        Instant createdAt,
+        Instant updatedAt
+) {
+    // 수정시 clean build 필요
+    @QueryProjection
+    public PostDetailQueryDto {}
+}
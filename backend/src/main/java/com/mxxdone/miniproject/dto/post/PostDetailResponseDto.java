@@ -1,6 +1,5 @@
 package com.mxxdone.miniproject.dto.post;
 
-import com.mxxdone.miniproject.domain.Post;
 import com.mxxdone.miniproject.dto.category.CategoryDto;
 import io.swagger.v3.oas.annotations.media.Schema;
 
@@ -53,31 +52,36 @@ public record PostDetailResponseDto(
         @Schema(description = "수정일시")
         Instant updatedAt
 ) {
-    // 엔티티 -> DTO 변환메서드
-    public static PostDetailResponseDto from(Post post, List<CategoryDto> categoryPath, boolean isLiked, long commentCount) {
+    // 상세 조회 쿼리 결과 -> DTO 변환메서드
+    // categoryPath: 최상위부터 현재 카테고리까지 전체 경로 (카테고리 인덱스에서 계산)
+    public static PostDetailResponseDto from(PostDetailQueryDto dto, List<CategoryDto> categoryPath, boolean isLiked) {
 
         // 스냅샷 데이터 우선 사용
-        String displayNickname = post.getAuthorNickname();
-        String displayUsername = post.getAuthorUsername();
-
+        String displayNickname = dto.authorNickname();
         if (displayNickname == null) {
             displayNickname = "(알수없음)";
         }
 
         return new PostDetailResponseDto(
-                post.getId(),
-                post.getTitle(),
-                post.getContent(),
+                dto.id(),
+                dto.title(),
+                dto.content(),
                 categoryPath,
-                post.getCategory() != null ? post.getCategory().getId() : null,
-                displayUsername,
+                dto.categoryId(),
+                dto.authorUsername(),
                 displayNickname,
-                post.getViewCount(),
-                post.getLikeCount(),
+                dto.viewCount(),
+                dto.likeCount(),
                 isLiked,
-                commentCount,
-                post.getCreatedAt(),
-                post.getUpdatedAt()
+                dto.commentCount(),
+                dto.createdAt(),
+                dto.updatedAt()
         );
     }
+
+    // 조회수/좋아요 수만 바꾼 사본 (DB 미반영 값 합산용)
+    public PostDetailResponseDto withCounts(int viewCount, int likeCount) {
+        return new PostDetailResponseDto(id, title, content, categoryPath, categoryId, authorUsername, authorNickname,
+                viewCount, likeCount, isLiked, commentCount, createdAt, updatedAt);
+    }
 }
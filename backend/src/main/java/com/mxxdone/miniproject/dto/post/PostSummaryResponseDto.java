@@ -16,6 +16,9 @@ public record PostSummaryResponseDto(
         @Schema(description = "내용 요약 (HTML 제거됨)", example = "샘플 게시글 본문 내용...")
         String content,
 
+        @Schema(description = "카테고리 ID", example = "3")
+        Long categoryId,
+
         @Schema(description = "카테고리 이름", example = "Backend")
         String categoryName,
 
@@ -44,7 +47,19 @@ public record PostSummaryResponseDto(
         String thumbnailUrl
 ) {
     // QueryDSL에서 직접 DTO로 조회할 것이므로 @QueryProjection 추가
+    // 카테고리 이름/slug는 조회하지 않고(카테고리 조인 X) CategoryIndex로 채움 -> withCategory
     // 수정시 clean build 필요
     @QueryProjection
-    public PostSummaryResponseDto {}
+    public PostSummaryResponseDto(Long id, String title, String content, Long categoryId,
+                                  String authorUsername, String authorNickname, int likeCount, Long commentCount,
+                                  Instant createdAt, String thumbnailUrl) {
+        this(id, title, content, categoryId, null, authorUsername, authorNickname, likeCount, commentCount,
+                createdAt, null, null, thumbnailUrl);
+    }
+
+    // 카테고리 인덱스에서 찾은 이름/slug 반영
+    public PostSummaryResponseDto withCategory(String categoryName, String parentSlug, String childSlug) {
+        return new PostSummaryResponseDto(id, title, content, categoryId, categoryName, authorUsername, authorNickname,
+                likeCount, commentCount, createdAt, parentSlug, childSlug, thumbnailUrl);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,79 @@
+package com.mxxdone.miniproject.job;
+
+import com.mxxdone.miniproject.service.PostDetailCacheService;
+import com.mxxdone.miniproject.service.PostListCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * post.comment_count 값을 실제 댓글 수와 맞추는 보정 작업
+ * 기동 직후 한 번(컬럼 도입 시 백필 겸) 그리고 매일 새벽에 id 구간 단위로 실행된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentCountReconcileJob {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String ACTUAL_COUNT =
+            "(SELECT COUNT(*) FROM comment c WHERE c.post_id = p.id AND c.is_deleted = false)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PostDetailCacheService postDetailCacheService;
+    private final PostListCacheService postListCacheService;
+
+    @Async("taskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        reconcile();
+    }
+
+    @Scheduled(cron = "${app.comment-count.reconcile-cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void reconcile() {
+        long fixed = 0;
+        try {
+            Map<String, Object> range = jdbcTemplate.queryForMap("SELECT MIN(id) AS min_id, MAX(id) AS max_id FROM post");
+            if (range.get("min_id") == null) {
+                return;
+            }
+            long minId = ((Number) range.get("min_id")).longValue();
+            long maxId = ((Number) range.get("max_id")).longValue();
+
+            for (long from = minId; from <= maxId; from += BATCH_SIZE) {
+                long to = from + BATCH_SIZE - 1;
+                // 어긋난 게시글만 골라서 갱신 -> 대부분 구간은 조회 한 번으로 끝남
+                List<Long> driftedIds = jdbcTemplate.queryForList(
+                        "SELECT p.id FROM post p WHERE p.id BETWEEN ? AND ? AND p.comment_count <> " + ACTUAL_COUNT,
+                        Long.class, from, to
+                );
+                if (driftedIds.isEmpty()) {
+                    continue;
+                }
+
+                // 엔티티 대신 JDBC로 직접 갱신 -> updated_at이 바뀌지 않도록
+                jdbcTemplate.batchUpdate(
+                        "UPDATE post p SET comment_count = " + ACTUAL_COUNT + " WHERE p.id = ?",
+                        driftedIds.stream().map(id -> new Object[]{id}).toList()
+                );
+                postDetailCacheService.evictAll(driftedIds);
+                driftedIds.forEach(postListCacheService::evictPost);
+                fixed += driftedIds.size();
+            }
+            if (fixed > 0) {
+                log.info("댓글 수 보정 완료: {}건", fixed);
+            }
+        } catch (Exception e) {
+            log.error("댓글 수 보정 실패 ({}건 처리 후 중단)", fixed, e);
+        }
+    }
+}
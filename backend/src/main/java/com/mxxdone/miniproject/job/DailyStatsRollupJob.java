@@ -0,0 +1,91 @@
+package com.mxxdone.miniproject.job;
+
+import com.mxxdone.miniproject.domain.DailyStats;
+import com.mxxdone.miniproject.repository.DailyStatsRepository;
+import com.mxxdone.miniproject.service.AdminSummaryCounterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * 지난 날짜의 활동 통계를 daily_stats 테이블로 롤업하는 작업
+ * 매일 자정 직후 전날까지 비어 있는 날짜를 채우고, 기동 직후에도 한 번 실행된다.
+ * (테이블이 비어 있으면 최근 BACKFILL_DAYS일을 원본 테이블에서 백필)
+ *
+ * 게시글/댓글/가입 수는 created_at 범위 조건으로 원본 테이블에서 세고 (인덱스 사용 가능),
+ * 원본에 날짜별 기록이 없는 조회수/좋아요는 Redis 일별 카운터 값을 옮긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailyStatsRollupJob {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final int BACKFILL_DAYS = 365;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DailyStatsRepository dailyStatsRepository;
+    private final AdminSummaryCounterService adminSummaryCounterService;
+
+    @Async("taskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        rollup();
+    }
+
+    @Scheduled(cron = "${app.daily-stats.rollup-cron:0 10 0 * * *}", zone = "Asia/Seoul")
+    public void rollup() {
+        LocalDate today = LocalDate.now(KST);
+        LocalDate from = dailyStatsRepository.findTopByOrderByStatDateDesc()
+                .map(last -> last.getStatDate().plusDays(1))
+                .orElse(today.minusDays(BACKFILL_DAYS));
+
+        int count = 0;
+        try {
+            for (LocalDate date = from; date.isBefore(today); date = date.plusDays(1)) {
+                dailyStatsRepository.save(aggregate(date));
+                count++;
+            }
+            if (count > 0) {
+                log.info("일별 통계 롤업 완료: {} ~ {} ({}일)", from, today.minusDays(1), count);
+            }
+        } catch (Exception e) {
+            // 이미 저장한 날짜는 유지되고, 다음 실행 때 남은 날짜부터 이어서 처리
+            log.error("일별 통계 롤업 실패 ({}일 처리 후 중단)", count, e);
+        }
+    }
+
+    private DailyStats aggregate(LocalDate date) {
+        Timestamp start = Timestamp.from(date.atStartOfDay(KST).toInstant());
+        Timestamp end = Timestamp.from(date.plusDays(1).atStartOfDay(KST).toInstant());
+
+        long posts = count("SELECT COUNT(*) FROM post WHERE is_deleted = false AND created_at >= ? AND created_at < ?",
+                start, end);
+        // 관리자 댓글 제외 (탈퇴 회원 댓글은 포함)
+        long comments = count("SELECT COUNT(*) FROM comment c " +
+                        "LEFT JOIN users u ON u.id = c.user_id AND u.is_deleted = false " +
+                        "WHERE c.is_deleted = false AND c.created_at >= ? AND c.created_at < ? " +
+                        "AND (u.id IS NULL OR u.role <> 'ADMIN')",
+                start, end);
+        // 탈퇴 회원 제외 - 오늘 값(Redis 카운터, 탈퇴 시 감소)과 같은 기준
+        long signups = count("SELECT COUNT(*) FROM users WHERE is_deleted = false AND created_at >= ? AND created_at < ?",
+                start, end);
+
+        AdminSummaryCounterService.DailyCounts live = adminSummaryCounterService.dailyCounts(date);
+        return new DailyStats(date, posts, comments, signups, live.views(), live.likes());
+    }
+
+    private long count(String sql, Timestamp start, Timestamp end) {
+        Long count = jdbcTemplate.queryForObject(sql, Long.class, start, end);
+        return count != null ? count : 0L;
+    }
+}
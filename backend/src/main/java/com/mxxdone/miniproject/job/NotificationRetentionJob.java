@@ -0,0 +1,83 @@
+package com.mxxdone.miniproject.job;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 오래된 읽은 알림 정리
+ * 보관 기간(app.notification.retention.days)이 지난 읽은 알림을 매일 새벽 작은 배치로 나눠 삭제한다.
+ * id는 생성 순서대로 증가하므로 PK 순서로 1000건씩 읽어 나가며(마지막 id 이후부터),
+ * 보관 기간 안의 알림이 나오면 그 뒤는 볼 필요 없이 멈춘다. -> 오래된 구간만 한 번 훑음
+ * 배치마다 별도 문장(자동 커밋)으로 삭제하므로 잠금이 오래 유지되지 않는다.
+ * 안 읽은 알림은 기간과 관계없이 남겨둔다. (안 읽은 알림 수 카운터에 영향 없음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationRetentionJob {
+
+    private static final int BATCH_SIZE = 1000;
+
+    // PK 범위 스캔만 사용 (PostgreSQL, H2 공통 문법)
+    private static final String NEXT_BATCH_SQL =
+            "SELECT id, is_read, created_at FROM notification WHERE id > ? ORDER BY id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.notification.retention.days:90}")
+    private int retentionDays;
+
+    private record Row(long id, boolean isRead, Instant createdAt) {}
+
+    @Scheduled(cron = "${app.notification.retention.cron:0 0 5 * * *}", zone = "Asia/Seoul")
+    public void purge() {
+        Instant threshold = Instant.now().minus(Duration.ofDays(retentionDays));
+        long deleted = 0;
+        try {
+            long lastId = 0;
+            boolean reachedRetained = false;
+            while (!reachedRetained) {
+                List<Row> rows = jdbcTemplate.query(NEXT_BATCH_SQL,
+                        (rs, rowNum) -> new Row(rs.getLong("id"), rs.getBoolean("is_read"),
+                                // 생성일시가 없는 행은 가장 오래된 것으로 취급
+                                rs.getTimestamp("created_at") != null ? rs.getTimestamp("created_at").toInstant() : Instant.EPOCH),
+                        lastId, BATCH_SIZE);
+                if (rows.isEmpty()) {
+                    break;
+                }
+                List<Object[]> expiredIds = new ArrayList<>();
+                for (Row row : rows) {
+                    if (!row.createdAt().isBefore(threshold)) {
+                        reachedRetained = true; // 이후 알림은 모두 보관 기간 안
+                        break;
+                    }
+                    if (row.isRead()) {
+                        expiredIds.add(new Object[]{row.id()});
+                    }
+                }
+                if (!expiredIds.isEmpty()) {
+                    jdbcTemplate.batchUpdate("DELETE FROM notification WHERE id = ?", expiredIds);
+                    deleted += expiredIds.size();
+                }
+                lastId = rows.get(rows.size() - 1).id();
+                if (rows.size() < BATCH_SIZE) {
+                    break;
+                }
+            }
+            if (deleted > 0) {
+                log.info("오래된 읽은 알림 삭제 완료: {}건 ({}일 경과)", deleted, retentionDays);
+            }
+        } catch (Exception e) {
+            log.error("오래된 읽은 알림 삭제 실패 ({}건 삭제 후 중단)", deleted, e);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.mxxdone.miniproject.job;
+
+import com.mxxdone.miniproject.util.ExcerptExtractor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * excerpt 컬럼 도입 이전에 작성된 게시글의 요약을 채우는 백필 작업
+ * 애플리케이션 기동 후 비동기로 한 번 실행되며, 채울 행이 없으면 바로 종료된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostExcerptBackfillJob {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Async("taskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long total = 0;
+        try {
+            while (true) {
+                // 엔티티 대신 JDBC로 직접 갱신 -> 더티 체킹으로 updated_at이 바뀌는 것을 방지
+                List<Object[]> rows = jdbcTemplate.query(
+                        "SELECT id, content FROM post WHERE excerpt IS NULL ORDER BY id LIMIT ?",
+                        (rs, rowNum) -> new Object[]{rs.getLong("id"), rs.getString("content")},
+                        BATCH_SIZE
+                );
+                if (rows.isEmpty()) {
+                    break;
+                }
+
+                List<Object[]> batchArgs = rows.stream()
+                        .map(row -> new Object[]{ExcerptExtractor.extract((String) row[1]), row[0]})
+                        .toList();
+                jdbcTemplate.batchUpdate("UPDATE post SET excerpt = ? WHERE id = ?", batchArgs);
+                total += rows.size();
+            }
+            if (total > 0) {
+                log.info("게시글 요약 백필 완료: {}건", total);
+            }
+        } catch (Exception e) {
+            log.error("게시글 요약 백필 실패 ({}건 처리 후 중단)", total, e);
+        }
+    }
+}
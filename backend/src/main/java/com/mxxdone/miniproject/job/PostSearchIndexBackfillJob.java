@@ -0,0 +1,44 @@
+package com.mxxdone.miniproject.job;
+
+import com.mxxdone.miniproject.service.PostSearchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색 색인 도입 이전에 작성된 게시글을 색인하는 백필 작업
+ * 애플리케이션 기동 후 비동기로 한 번 실행되며, 색인할 게시글이 없으면 바로 종료된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndexBackfillJob {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final PostSearchService postSearchService;
+
+    @Async("taskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (!postSearchService.isEnabled()) {
+            return;
+        }
+        long total = 0;
+        try {
+            int indexed;
+            // 배치마다 별도 트랜잭션으로 커밋
+            while ((indexed = postSearchService.indexMissing(BATCH_SIZE)) > 0) {
+                total += indexed;
+            }
+            if (total > 0) {
+                log.info("게시글 검색 색인 백필 완료: {}건", total);
+            }
+        } catch (Exception e) {
+            log.error("게시글 검색 색인 백필 실패 ({}건 처리 후 중단)", total, e);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.mxxdone.miniproject.listener;
+
+import com.mxxdone.miniproject.dto.event.AdminStatsEvent;
+import com.mxxdone.miniproject.service.AdminSummaryCounterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdminStatsEventListener {
+
+    private final AdminSummaryCounterService adminSummaryCounterService;
+
+    @Async("taskExecutor")
+    // 커밋된 변경만 반영 (롤백된 작성/삭제는 카운터에 영향 X)
+    // 트랜잭션 밖에서 발행된 경우(소셜 회원가입 등)에도 실행
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleAdminStatsEvent(AdminStatsEvent event) {
+        try {
+            adminSummaryCounterService.apply(event);
+        } catch (Exception e) {
+            log.error("관리자 요약 카운터 이벤트 처리 실패: {}", event, e);
+        }
+    }
+}
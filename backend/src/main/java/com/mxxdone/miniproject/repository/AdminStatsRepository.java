@@ -1,17 +1,12 @@
 package com.mxxdone.miniproject.repository;
 
 import com.mxxdone.miniproject.domain.QCategory;
-import com.mxxdone.miniproject.domain.QUser;
 import com.mxxdone.miniproject.domain.Role;
 import com.mxxdone.miniproject.dto.admin.AdminSummaryResponseDto;
-import com.mxxdone.miniproject.dto.admin.DailyStatResponseDto;
 import com.mxxdone.miniproject.dto.admin.PopularPostResponseDto;
 import com.mxxdone.miniproject.dto.admin.RecentCommentResponseDto;
-import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.DateTemplate;
-import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
@@ -116,13 +111,10 @@ public class AdminStatsRepository {
 
     /**
      * 인기 게시글 (조회수 기준)
-     * 리스트 목록과 함께 해당 게시글의 좋아요 수, 댓글 수도 서브쿼리로 묶어서 조회
+     * 리스트 목록과 함께 해당 게시글의 좋아요 수(서브쿼리), 댓글 수(comment_count 컬럼)도 묶어서 조회
      */
     public List<PopularPostResponseDto> getPopularPosts(int limit) {
 
-        // 서브쿼리에서 user 겹쳐서 구분
-        QUser commentAuthor = new QUser("commentAuthor");
-
         return queryFactory
                 // Projections.constructor: DB에서 긁어온 데이터를 DTO(PopularPostResponseDto)의 생성자에 넣어줌
                 .select(Projections.constructor(PopularPostResponseDto.class,
@@ -139,16 +131,8 @@ public class AdminStatsRepository {
                                 .from(postLike)
                                 .where(postLike.post.eq(post)), // eq: Equal (같다, ==)
 
-                        // 이 게시글에 달린 댓글 수
-                        JPAExpressions.select(comment.count())
-                                .from(comment)
-                                .leftJoin(comment.author, commentAuthor)
-                                .where(
-                                        comment.post.eq(post),
-                                        comment.isDeleted.isFalse(),
-                                        commentAuthor.isNull()
-                                                .or(commentAuthor.role.ne(Role.ADMIN))
-                                ),
+                        // 이 게시글에 달린 댓글 수 (post.comment_count 컬럼)
+                        post.commentCount.longValue(),
                         post.createdAt
                 ))
                 .from(post)
@@ -192,44 +176,4 @@ public class AdminStatsRepository {
                 .limit(limit)
                 .fetch();
     }
-
-    /**
-     * 일별 댓글 수 추이
-     * 날짜별로 그룹화(GROUP BY)해서 집계
-     */
-    public List<DailyStatResponseDto> getCommentsDailyStats(int days) {
-        Instant startDate = LocalDate.now(KST)
-                .minusDays(days)
-                .atStartOfDay(KST)
-                .toInstant();
-
-        DateTemplate<LocalDate> dateExpr = Expressions.dateTemplate(
-                LocalDate.class,
-                "cast(function('timezone', 'Asia/Seoul', {0}) as date)",
-                comment.createdAt
-        );
-
-        List<Tuple> results = queryFactory
-                .select(
-                        dateExpr,            // 날짜값 (e.g. 2025-12-25)
-                        comment.count()      // 해당 일 댓글 수
-                )
-                .from(comment)
-                .where(
-                        comment.isDeleted.isFalse(),
-                        comment.createdAt.goe(startDate), // 작성일이 'N일 전의 자정'보다 크거나 같은 조건
-                        isNotAdminComment()
-                )
-                .groupBy(dateExpr)          // 위에서 만든 날짜를 기준으로 GROUP BY
-                .orderBy(dateExpr.asc())    // 날짜 오름차순(과거->현재)으로 정렬
-                .fetch();                   // 복수개라 fetch()
-
-        return results.stream()
-                .map(tuple -> new DailyStatResponseDto(
-                        // dateExpr 대신 인덱스로 꺼내서 Object로 받고 toString() → parse()
-                        LocalDate.parse(tuple.get(0, Object.class).toString()),
-                        tuple.get(1, Long.class)
-                ))
-                .toList();
-    }
 }
@@ -1,6 +1,7 @@
 package com.mxxdone.miniproject.repository;
 
 import com.mxxdone.miniproject.domain.Category;
+import com.mxxdone.miniproject.dto.category.CategoryRowDto;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
@@ -11,8 +12,9 @@ public interface CategoryRepository extends JpaRepository<Category,Long> {
     // Optional: 결과가 없을 수 있음
     Optional<Category> findByName(String name);
 
-    // 부모가 없는 최상위 카테고리만 찾는 메서드
-    // 미분류 카테고리 (slug = 'uncategorized') 제외
-    @Query("SELECT c FROM Category c WHERE c.parent IS NULL AND c.slug != 'uncategorized' ORDER BY c.displayOrder ASC")
-    List<Category> findAllForDisplay();
+    // 전체 카테고리를 부모 id와 함께 평면으로 조회 (트리는 CategoryTreeBuilder에서 조립)
+    // c.parent.id는 FK 컬럼을 그대로 읽으므로 부모 조인 없음
+    @Query("SELECT new com.mxxdone.miniproject.dto.category.CategoryRowDto(c.id, c.parent.id, c.name, c.slug, c.displayOrder) " +
+            "FROM Category c ORDER BY c.displayOrder ASC, c.id ASC")
+    List<CategoryRowDto> findAllRows();
 }
@@ -1,9 +1,26 @@
 package com.mxxdone.miniproject.repository;
 
-import com.mxxdone.miniproject.domain.Comment;
+import com.mxxdone.miniproject.dto.KeysetCursor;
+import com.mxxdone.miniproject.dto.comment.CommentRowDto;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface CommentRepositoryCustom {
-    List<Comment> findVisibleCommentsByPostId(Long postId);
+    // 게시글의 모든 댓글을 부모 id와 함께 평면으로 조회 (작성일 오름차순)
+    List<CommentRowDto> findCommentRowsByPostId(Long postId);
+
+    // 루트 댓글 커서 조회 (작성일시, id 오름차순), size + 1 건을 반환
+    // 삭제된 루트 댓글은 삭제되지 않은 답글이 있을 때만 포함
+    List<CommentRowDto> findRootRows(Long postId, KeysetCursor cursor, int size);
+
+    // 특정 댓글의 바로 아래 답글 커서 조회, size + 1 건을 반환
+    List<CommentRowDto> findReplyRows(Long parentId, KeysetCursor cursor, int size);
+
+    // 부모 댓글별 바로 아래 답글 수
+    Map<Long, Long> countRepliesByParentIds(Collection<Long> parentIds);
+
+    // 부모 댓글별로 먼저 작성된 답글 limit 개씩 (부모 id, 작성일시 순)
+    List<CommentRowDto> findFirstRepliesByParentIds(Collection<Long> parentIds, int limit);
 }
@@ -1,43 +1,159 @@
 package com.mxxdone.miniproject.repository;
 
-import com.mxxdone.miniproject.domain.Comment;
 import com.mxxdone.miniproject.domain.QComment;
+import com.mxxdone.miniproject.dto.KeysetCursor;
+import com.mxxdone.miniproject.dto.comment.CommentRowDto;
+import com.mxxdone.miniproject.dto.comment.QCommentRowDto;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static com.mxxdone.miniproject.domain.QComment.comment;
-import static com.mxxdone.miniproject.domain.QUser.user;
 
 @RequiredArgsConstructor
 public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
 
+    // 부모별 상위 N개 답글: 윈도우 함수로 한 번에 조회 (PostgreSQL, H2 공통 문법)
+    private static final String FIRST_REPLIES_SQL = """
+            SELECT id, parent_id, content, author_username, author_nickname, guest_name, is_deleted, created_at, updated_at
+            FROM (
+                SELECT c.*, ROW_NUMBER() OVER (PARTITION BY c.parent_id ORDER BY c.created_at, c.id) AS rn
+                FROM comment c
+                WHERE c.parent_id IN (:parentIds)
+            ) ranked
+            WHERE rn <= :limit
+            ORDER BY parent_id, created_at, id
+            """;
+
+    private static final RowMapper<CommentRowDto> ROW_MAPPER = (rs, rowNum) -> new CommentRowDto(
+            rs.getLong("id"),
+            rs.getLong("parent_id"),
+            rs.getString("content"),
+            rs.getString("author_username"),
+            rs.getString("author_nickname"),
+            rs.getString("guest_name"),
+            rs.getBoolean("is_deleted"),
+            toInstant(rs.getTimestamp("created_at")),
+            toInstant(rs.getTimestamp("updated_at"))
+    );
 
     @Override
-    public List<Comment> findVisibleCommentsByPostId(Long postId) {
-        QComment subComment = new QComment("subComment");
+    public List<CommentRowDto> findCommentRowsByPostId(Long postId) {
+        // fetch join 없이 필요한 컬럼만 한 번에 조회 -> 트리는 CommentTreeBuilder가 메모리에서 조립
+        // 작성자 정보는 스냅샷 컬럼을 사용하므로 user 조인 불필요
+        // parent.id는 FK 컬럼을 그대로 읽으므로 셀프 조인도 발생하지 않음
+        return queryFactory
+                .select(rowProjection())
+                .from(comment)
+                .where(comment.post.id.eq(postId))
+                .orderBy(comment.createdAt.asc(), comment.id.asc())
+                .fetch();
+    }
 
+    @Override
+    public List<CommentRowDto> findRootRows(Long postId, KeysetCursor cursor, int size) {
+        QComment reply = new QComment("reply");
         return queryFactory
-                .selectDistinct(comment)
+                .select(rowProjection())
                 .from(comment)
-                .leftJoin(comment.author, user).fetchJoin()
-                .leftJoin(comment.children, subComment).fetchJoin()
                 .where(
                         comment.post.id.eq(postId),
                         comment.parent.isNull(),
-                        //삭제되지 않았거나, 삭제되지 않은 대댓글이 존재하는 댓글
+                        //삭제되지 않았거나, 삭제되지 않은 답글이 존재하는 댓글
                         comment.isDeleted.isFalse().or(
                                 JPAExpressions.selectOne()
-                                        .from(subComment)
-                                        .where(subComment.parent.eq(comment), subComment.isDeleted.isFalse())
+                                        .from(reply)
+                                        .where(reply.parent.id.eq(comment.id), reply.isDeleted.isFalse())
                                         .exists()
-                        )
+                        ),
+                        after(cursor)
+                )
+                .orderBy(comment.createdAt.asc(), comment.id.asc())
+                .limit(size + 1L)
+                .fetch();
+    }
+
+    @Override
+    public List<CommentRowDto> findReplyRows(Long parentId, KeysetCursor cursor, int size) {
+        return queryFactory
+                .select(rowProjection())
+                .from(comment)
+                .where(
+                        comment.parent.id.eq(parentId),
+                        after(cursor)
                 )
-                .orderBy(comment.createdAt.asc())
+                .orderBy(comment.createdAt.asc(), comment.id.asc())
+                .limit(size + 1L)
                 .fetch();
     }
+
+    @Override
+    public Map<Long, Long> countRepliesByParentIds(Collection<Long> parentIds) {
+        if (parentIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Tuple> counts = queryFactory
+                .select(comment.parent.id, comment.count())
+                .from(comment)
+                .where(comment.parent.id.in(parentIds))
+                .groupBy(comment.parent.id)
+                .fetch();
+        return counts.stream().collect(Collectors.toMap(
+                tuple -> tuple.get(comment.parent.id),
+                tuple -> tuple.get(comment.count())
+        ));
+    }
+
+    @Override
+    public List<CommentRowDto> findFirstRepliesByParentIds(Collection<Long> parentIds, int limit) {
+        if (parentIds.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("parentIds", parentIds)
+                .addValue("limit", limit);
+        return jdbcTemplate.query(FIRST_REPLIES_SQL, params, ROW_MAPPER);
+    }
+
+    private QCommentRowDto rowProjection() {
+        return new QCommentRowDto(
+                comment.id,
+                comment.parent.id,
+                comment.content,
+                comment.authorUsername,
+                comment.authorNickname,
+                comment.guestName,
+                comment.isDeleted,
+                comment.createdAt,
+                comment.updatedAt
+        );
+    }
+
+    // (작성일시, id) 기준으로 커서 이후
+    private BooleanExpression after(KeysetCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return comment.createdAt.gt(cursor.createdAt())
+                .or(comment.createdAt.eq(cursor.createdAt()).and(comment.id.gt(cursor.id())));
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
 }
@@ -0,0 +1,17 @@
+package com.mxxdone.miniproject.repository;
+
+import com.mxxdone.miniproject.domain.DailyStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface DailyStatsRepository extends JpaRepository<DailyStats, LocalDate> {
+
+    // 기간 조회 (PK 범위 스캔)
+    List<DailyStats> findByStatDateBetweenOrderByStatDateAsc(LocalDate from, LocalDate to);
+
+    // 마지막으로 롤업된 날짜
+    Optional<DailyStats> findTopByOrderByStatDateDesc();
+}
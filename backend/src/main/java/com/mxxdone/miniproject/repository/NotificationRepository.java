@@ -1,15 +1,43 @@
 package com.mxxdone.miniproject.repository;
 
 import com.mxxdone.miniproject.domain.Notification;
+import com.mxxdone.miniproject.dto.notification.UnreadCountDto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
-public interface NotificationRepository extends JpaRepository<Notification, Long> {
+public interface NotificationRepository extends JpaRepository<Notification, Long>, NotificationRepositoryCustom {
 
-    // 안읽은 알림 목록 조회(최신순 정렬)
-    List<Notification> findAllByReceiverIdAndIsReadFalseOrderByCreatedAtDesc(Long targetUserId);
+    // 안읽은 알림 목록 조회(최신순 정렬, 최대 50건 - 나머지는 내역 조회로)
+    List<Notification> findTop50ByReceiverIdAndIsReadFalseOrderByCreatedAtDescIdDesc(Long targetUserId);
 
     // 읽지 않은 알림 개수 조회
     long countByReceiverIdAndIsReadFalse(Long receiverId);
+
+    // 여러 사용자의 읽지 않은 알림 개수를 한 번에 집계 (Redis 카운터 보정용, 0건인 사용자는 결과에 없음)
+    @Query("SELECT new com.mxxdone.miniproject.dto.notification.UnreadCountDto(n.receiver.id, COUNT(n)) " +
+            "FROM Notification n WHERE n.isRead = false AND n.receiver.id IN :receiverIds GROUP BY n.receiver.id")
+    List<UnreadCountDto> countUnreadGroupByReceiver(@Param("receiverIds") List<Long> receiverIds);
+
+    // 전체 읽음 처리 - 엔티티를 읽지 않고 UPDATE 한 번으로 처리, 변경된 건수 반환
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.receiver.id = :receiverId AND n.isRead = false")
+    int markAllAsReadByReceiverId(@Param("receiverId") Long receiverId);
+
+    // 선택한 알림 읽음 처리 - 본인 알림 중 안 읽은 것만 변경, 변경된 건수 반환
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.isRead = true " +
+            "WHERE n.id IN :ids AND n.receiver.id = :receiverId AND n.isRead = false")
+    int markAsReadByIds(@Param("receiverId") Long receiverId, @Param("ids") List<Long> ids);
+
+    // 알림의 수신자 id (receiver 조인/로딩 없이 FK 값만)
+    @Query("SELECT n.receiver.id FROM Notification n WHERE n.id = :id")
+    Optional<Long> findReceiverIdById(@Param("id") Long id);
+
+    // SSE 재연결 시 마지막으로 받은 알림 이후 알림 (최대 100건, 오래된 순)
+    List<Notification> findTop100ByReceiverIdAndIdGreaterThanOrderByIdAsc(Long receiverId, Long lastId);
 }
@@ -0,0 +1,12 @@
+package com.mxxdone.miniproject.repository;
+
+import com.mxxdone.miniproject.domain.Notification;
+import com.mxxdone.miniproject.dto.KeysetCursor;
+
+import java.util.List;
+
+public interface NotificationRepositoryCustom {
+    // 알림 내역 커서 조회 (생성일시, id 내림차순), size + 1 건을 반환
+    // isRead가 null이면 읽음 여부와 관계없이 전체
+    List<Notification> findHistory(Long receiverId, Boolean isRead, KeysetCursor cursor, int size);
+}
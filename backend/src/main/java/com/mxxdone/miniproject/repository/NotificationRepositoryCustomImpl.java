@@ -0,0 +1,41 @@
+package com.mxxdone.miniproject.repository;
+
+import com.mxxdone.miniproject.domain.Notification;
+import com.mxxdone.miniproject.dto.KeysetCursor;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+import static com.mxxdone.miniproject.domain.QNotification.notification;
+
+@RequiredArgsConstructor
+public class NotificationRepositoryCustomImpl implements NotificationRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<Notification> findHistory(Long receiverId, Boolean isRead, KeysetCursor cursor, int size) {
+        // (receiver_id, is_read, created_at) / (receiver_id, created_at) 인덱스 순서대로 읽고 size + 1 건에서 멈춤
+        return queryFactory
+                .selectFrom(notification)
+                .where(
+                        notification.receiver.id.eq(receiverId),
+                        isRead != null ? notification.isRead.eq(isRead) : null,
+                        before(cursor)
+                )
+                .orderBy(notification.createdAt.desc(), notification.id.desc())
+                .limit(size + 1L)
+                .fetch();
+    }
+
+    // (생성일시, id) 기준으로 커서 이전 (최신순)
+    private BooleanExpression before(KeysetCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return notification.createdAt.lt(cursor.createdAt())
+                .or(notification.createdAt.eq(cursor.createdAt()).and(notification.id.lt(cursor.id())));
+    }
+}
@@ -1,13 +1,16 @@
 package com.mxxdone.miniproject.repository;
 
-import com.mxxdone.miniproject.domain.Post;
 import com.mxxdone.miniproject.domain.PostLike;
-import com.mxxdone.miniproject.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import java.util.Optional;
+import java.util.List;
 
 public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
-    boolean existsByUserAndPost(User user, Post post);
-    Optional<PostLike> findByPostIdAndUserId(Long postId, Long id);
-}
\ No newline at end of file
+    boolean existsByPostIdAndUserId(Long postId, Long userId);
+
+    // 좋아요 Set 초기 적재용 (엔티티 대신 사용자 id만)
+    @Query("SELECT pl.user.id FROM PostLike pl WHERE pl.post.id = :postId")
+    List<Long> findUserIdsByPostId(@Param("postId") Long postId);
+}
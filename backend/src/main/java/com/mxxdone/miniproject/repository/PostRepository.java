@@ -1,25 +1,40 @@
 package com.mxxdone.miniproject.repository;
 
 import com.mxxdone.miniproject.domain.Post;
+import com.mxxdone.miniproject.dto.category.CategoryPostCountDto;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
+import java.util.Optional;
+
 //부모의 설계도
 //JpaRepository의 T -> Post, Id -> Long
 //모든 제네릭 메서드를 Post 타입에 특화된 버전으로 물려받음
 public interface PostRepository extends JpaRepository<Post, Long>, PostRepositoryCustom {
 
-    @Modifying(clearAutomatically = true)
-    @Query("UPDATE Post p SET p.viewCount = p.viewCount + 1 WHERE p.id = :id")
-    int incrementViewCount(@Param("id") Long id);
+    // 카테고리별 게시글 수를 한 번에 집계 (삭제된 게시글은 @SQLRestriction으로 제외)
+    @Query("SELECT new com.mxxdone.miniproject.dto.category.CategoryPostCountDto(p.category.id, COUNT(p)) " +
+            "FROM Post p GROUP BY p.category.id")
+    List<CategoryPostCountDto> countGroupByCategory();
+
+    // 게시글의 카테고리 id (category 조인/로딩 없이 FK 값만)
+    @Query("SELECT p.category.id FROM Post p WHERE p.id = :id")
+    Optional<Long> findCategoryIdById(@Param("id") Long id);
+
+    // 댓글 수 갱신은 영속성 컨텍스트를 비우지 않음 (이후 로직에서 지연 로딩이 필요한 엔티티 보호)
+    // 호출하는 쪽에서 Post 엔티티를 수정하지 않는 경우에만 사용 (더티 체킹 시 이전 값으로 덮어쓰지 않도록)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + 1 WHERE p.id = :id")
+    int incrementCommentCount(@Param("id") Long id);
 
-    @Modifying(clearAutomatically = true)
-    @Query("UPDATE Post p SET p.likeCount = p.likeCount + 1 WHERE p.id = :id")
-    int incrementLikeCount(@Param("id") Long id);
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount - 1 WHERE p.id = :id AND p.commentCount > 0")
+    int decrementCommentCount(@Param("id") Long id);
 
-    @Modifying(clearAutomatically = true)
-    @Query("UPDATE Post p SET p.likeCount = p.likeCount - 1 WHERE p.id = :id AND p.likeCount > 0")
-    int decrementLikeCount(@Param("id") Long id);
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Post p SET p.commentCount = 0 WHERE p.id = :id")
+    int resetCommentCount(@Param("id") Long id);
 }
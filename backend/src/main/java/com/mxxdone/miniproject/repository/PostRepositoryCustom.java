@@ -1,11 +1,22 @@
 package com.mxxdone.miniproject.repository;
 
+import com.mxxdone.miniproject.dto.post.PostDetailQueryDto;
 import com.mxxdone.miniproject.dto.post.PostSummaryResponseDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface PostRepositoryCustom {
     Page<PostSummaryResponseDto> findPostsWithConditions(List<Long> categoryIds, String searchType, String keyword, Pageable pageable);
+
+    // 커서(마지막 게시글 id) 기반 목록 조회, size + 1 건을 반환
+    List<PostSummaryResponseDto> findPostsByCursor(List<Long> categoryIds, String searchType, String keyword, Long cursorId, int size);
+
+    // 검색 색인에서 찾은 id 목록을 요약 DTO로 조회 (ids 순서 유지)
+    List<PostSummaryResponseDto> findPostSummariesByIds(List<Long> ids);
+
+    // 상세 조회: 게시글, 카테고리 경로, 댓글 수를 한 번의 쿼리로
+    Optional<PostDetailQueryDto> findPostDetail(Long postId);
 }
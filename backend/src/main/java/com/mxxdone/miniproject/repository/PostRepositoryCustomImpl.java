@@ -1,11 +1,10 @@
 package com.mxxdone.miniproject.repository;
 
-import com.mxxdone.miniproject.domain.QCategory;
+import com.mxxdone.miniproject.dto.post.PostDetailQueryDto;
 import com.mxxdone.miniproject.dto.post.PostSummaryResponseDto;
+import com.mxxdone.miniproject.dto.post.QPostDetailQueryDto;
 import com.mxxdone.miniproject.dto.post.QPostSummaryResponseDto;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.CaseBuilder;
-import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -13,9 +12,13 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.mxxdone.miniproject.domain.QCategory.category;
-import static com.mxxdone.miniproject.domain.QComment.comment;
 import static com.mxxdone.miniproject.domain.QPost.post;
 
 @RequiredArgsConstructor
@@ -26,47 +29,10 @@ public class PostRepositoryCustomImpl implements PostRepositoryCustom {
     @Override
     public Page<PostSummaryResponseDto> findPostsWithConditions(List<Long> categoryIds, String searchType, String keyword, Pageable pageable) {
 
-        // 셀프 조인(Self-Join)을 위한 Q-Type 별칭(Alias) 생성
-        // category 테이블은 parent_id로 자기 자신을 참조하는 계층 구조
-        // 게시글의 '자식 카테고리'와 '부모 카테고리' 정보를 한 번에 가져오기 위해
-        // category 테이블을 두 개인 것처럼 사용해야함
-        // 'parentCategory'는 부모 카테고리 정보를 담기 위한 가상 테이블
-        QCategory parentCategory = new QCategory("parentCategory");
-
+        // 카테고리 이름/slug는 CategoryIndex에서 채우므로 카테고리 조인 없이 post 테이블만 조회
         List<PostSummaryResponseDto> content = queryFactory
-                .select(new QPostSummaryResponseDto(
-                        post.id,
-                        post.title,
-                        post.content,
-                        category.name,
-                        post.authorUsername,
-                        post.authorNickname,
-                        post.likeCount,
-                        // 스칼라 서브쿼리(Scalar Subquery)를 이용한 댓글 수 계산
-                        JPAExpressions
-                                .select(comment.count())
-                                .from(comment)
-                                .where(
-                                        comment.post.eq(post), // 현재 게시글(post)에 속한 댓글만
-                                        comment.isDeleted.isFalse() // 삭제되지 않은 댓글만
-                                ),
-                        post.createdAt,
-                        new CaseBuilder()
-                                .when(category.parent.isNotNull()).then(parentCategory.slug) // 부모가 있으면 부모 slug
-                                .otherwise(category.slug) // 부모가 없으면 자신의 slug
-                                .as("parentSlug"),
-                        new CaseBuilder()
-                                .when(category.parent.isNotNull()).then(category.slug) // 부모가 있으면 자신의 slug
-                                .otherwise((String) null) // 부모가 없으면 null
-                                .as("childSlug"),
-                        post.thumbnailUrl
-                ))
+                .select(summaryProjection())
                 .from(post)
-                .leftJoin(post.category, category)
-                // 부모 카테고리 정보를 위한 JOIN
-                // 자식 카테고리(category)의 parent 필드를 이용해 부모 카테고리 별칭(parentCategory)과 연결
-                // ON 절을 명시적으로 사용하여 셀프 조인 관계를 정확히 지정
-                .leftJoin(category.parent, parentCategory)
                 .where(
                         categoryIn(categoryIds),
                         searchEq(searchType, keyword)
@@ -90,6 +56,89 @@ public class PostRepositoryCustomImpl implements PostRepositoryCustom {
         return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
     }
 
+    @Override
+    public List<PostSummaryResponseDto> findPostsByCursor(List<Long> categoryIds, String searchType, String keyword, Long cursorId, int size) {
+        // offset 대신 마지막으로 본 게시글 id 기준으로 탐색(seek)
+        // PK 인덱스를 역순으로 타므로 페이지 깊이와 무관하게 일정한 비용
+        // 다음 페이지 존재 여부 판단을 위해 size + 1 건 조회, count 쿼리 없음
+        return queryFactory
+                .select(summaryProjection())
+                .from(post)
+                .where(
+                        idLessThan(cursorId),
+                        categoryIn(categoryIds),
+                        searchEq(searchType, keyword)
+                )
+                .orderBy(post.id.desc())
+                .limit(size + 1L)
+                .fetch();
+    }
+
+    @Override
+    public List<PostSummaryResponseDto> findPostSummariesByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<PostSummaryResponseDto> rows = queryFactory
+                .select(summaryProjection())
+                .from(post)
+                .where(post.id.in(ids))
+                .fetch();
+
+        // IN 조회는 순서를 보장하지 않으므로 검색 결과(관련도) 순서로 재정렬
+        Map<Long, PostSummaryResponseDto> byId = rows.stream()
+                .collect(Collectors.toMap(PostSummaryResponseDto::id, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public Optional<PostDetailQueryDto> findPostDetail(Long postId) {
+        PostDetailQueryDto result = queryFactory
+                .select(new QPostDetailQueryDto(
+                        post.id,
+                        post.title,
+                        post.content,
+                        category.id,
+                        category.name,
+                        post.authorUsername,
+                        post.authorNickname,
+                        post.viewCount,
+                        post.likeCount,
+                        post.commentCount.longValue(),
+                        post.createdAt,
+                        post.updatedAt
+                ))
+                .from(post)
+                .leftJoin(post.category, category)
+                .where(post.id.eq(postId))
+                .fetchOne();
+        return Optional.ofNullable(result);
+    }
+
+    // 목록 조회용 공통 프로젝션
+    private QPostSummaryResponseDto summaryProjection() {
+        return new QPostSummaryResponseDto(
+                post.id,
+                post.title,
+                post.excerpt, // 본문(TEXT) 대신 미리 계산된 요약만 조회
+                post.category.id, // FK 컬럼 그대로 사용 (카테고리 조인 X)
+                post.authorUsername,
+                post.authorNickname,
+                post.likeCount,
+                // 댓글 수는 post.comment_count 컬럼 사용 (행마다 서브쿼리 X)
+                post.commentCount.longValue(),
+                post.createdAt,
+                post.thumbnailUrl
+        );
+    }
+
+    private BooleanExpression idLessThan(Long cursorId) {
+        return cursorId != null ? post.id.lt(cursorId) : null;
+    }
+
     private BooleanExpression categoryIn(List<Long> categoryIds) {
         return categoryIds != null && !categoryIds.isEmpty() ? post.category.id.in(categoryIds) : null;
     }
@@ -0,0 +1,151 @@
+package com.mxxdone.miniproject.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * PostgreSQL tsvector 기반 게시글 검색 색인
+ * post_search_index 테이블에 제목/본문의 바이그램 토큰을 저장하고
+ * to_tsvector('simple', ...) 표현식 GIN 인덱스로 검색한다.
+ * 색인 테이블은 PostgreSQL 전용이므로 JPA 엔티티로 매핑하지 않고 직접 관리
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostSearchRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private static final String TITLE_VECTOR = "to_tsvector('simple', s.title_tokens)";
+    private static final String CONTENT_VECTOR = "to_tsvector('simple', s.content_tokens)";
+    private static final String QUERY = "plainto_tsquery('simple', :query)";
+
+    // 색인 대기 중인 게시글 (백필용)
+    public record UnindexedPost(Long id, String title, String content) {}
+
+    /**
+     * PostgreSQL이면 색인 테이블과 GIN 인덱스를 만들고 true를 반환
+     * 그 외 DB(H2 테스트 등)는 false -> 기존 LIKE 검색 사용
+     */
+    public boolean initialize() {
+        String product = jdbcTemplate.getJdbcTemplate().execute(
+                (ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equalsIgnoreCase(product)) {
+            return false;
+        }
+        var jdbc = jdbcTemplate.getJdbcTemplate();
+        jdbc.execute("""
+                CREATE TABLE IF NOT EXISTS post_search_index (
+                    post_id BIGINT PRIMARY KEY,
+                    title_tokens TEXT NOT NULL,
+                    content_tokens TEXT NOT NULL
+                )""");
+        jdbc.execute("CREATE INDEX IF NOT EXISTS idx_post_search_title ON post_search_index USING gin (to_tsvector('simple', title_tokens))");
+        jdbc.execute("CREATE INDEX IF NOT EXISTS idx_post_search_content ON post_search_index USING gin (to_tsvector('simple', content_tokens))");
+        return true;
+    }
+
+    public void upsert(Long postId, String titleTokens, String contentTokens) {
+        jdbcTemplate.update("""
+                INSERT INTO post_search_index (post_id, title_tokens, content_tokens)
+                VALUES (:postId, :titleTokens, :contentTokens)
+                ON CONFLICT (post_id) DO UPDATE
+                SET title_tokens = EXCLUDED.title_tokens, content_tokens = EXCLUDED.content_tokens""",
+                new MapSqlParameterSource()
+                        .addValue("postId", postId)
+                        .addValue("titleTokens", titleTokens)
+                        .addValue("contentTokens", contentTokens));
+    }
+
+    public void delete(Long postId) {
+        jdbcTemplate.update("DELETE FROM post_search_index WHERE post_id = :postId",
+                new MapSqlParameterSource("postId", postId));
+    }
+
+    // 관련도(ts_rank) 순으로 게시글 id 조회
+    public List<Long> searchRanked(List<Long> categoryIds, String searchType, String query, long offset, int limit) {
+        String sql = "SELECT s.post_id" + fromWhere(categoryIds, searchType)
+                + " ORDER BY " + rankExpression(searchType) + " DESC, s.post_id DESC"
+                + " LIMIT :limit OFFSET :offset";
+        MapSqlParameterSource params = params(categoryIds, query)
+                .addValue("limit", limit)
+                .addValue("offset", offset);
+        return jdbcTemplate.queryForList(sql, params, Long.class);
+    }
+
+    public long count(List<Long> categoryIds, String searchType, String query) {
+        String sql = "SELECT count(*)" + fromWhere(categoryIds, searchType);
+        return Optional.ofNullable(jdbcTemplate.queryForObject(sql, params(categoryIds, query), Long.class)).orElse(0L);
+    }
+
+    // 커서 기반 목록용: 관련도 대신 id 역순으로 cursorId 이전 게시글 조회
+    public List<Long> searchBefore(List<Long> categoryIds, String searchType, String query, Long cursorId, int limit) {
+        String sql = "SELECT s.post_id" + fromWhere(categoryIds, searchType)
+                + (cursorId != null ? " AND s.post_id < :cursorId" : "")
+                + " ORDER BY s.post_id DESC LIMIT :limit";
+        MapSqlParameterSource params = params(categoryIds, query)
+                .addValue("cursorId", cursorId)
+                .addValue("limit", limit);
+        return jdbcTemplate.queryForList(sql, params, Long.class);
+    }
+
+    public List<UnindexedPost> findUnindexedPosts(int limit) {
+        return jdbcTemplate.query("""
+                SELECT p.id, p.title, p.content FROM post p
+                WHERE p.is_deleted = false
+                  AND NOT EXISTS (SELECT 1 FROM post_search_index s WHERE s.post_id = p.id)
+                ORDER BY p.id
+                LIMIT :limit""",
+                new MapSqlParameterSource("limit", limit),
+                (rs, rowNum) -> new UnindexedPost(rs.getLong("id"), rs.getString("title"), rs.getString("content")));
+    }
+
+    public void upsertAll(List<SqlParameterSource> batch) {
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO post_search_index (post_id, title_tokens, content_tokens)
+                VALUES (:postId, :titleTokens, :contentTokens)
+                ON CONFLICT (post_id) DO NOTHING""",
+                batch.toArray(SqlParameterSource[]::new));
+    }
+
+    private String fromWhere(List<Long> categoryIds, String searchType) {
+        return " FROM post_search_index s JOIN post p ON p.id = s.post_id"
+                + " WHERE p.is_deleted = false AND " + matchClause(searchType)
+                + (categoryIds != null && !categoryIds.isEmpty() ? " AND p.category_id IN (:categoryIds)" : "");
+    }
+
+    // 기존 LIKE 검색과 같은 의미: title / content / all(제목 또는 본문)
+    // all은 두 GIN 인덱스를 각각 탈 수 있도록 OR로 연결
+    private String matchClause(String searchType) {
+        if ("title".equals(searchType)) {
+            return TITLE_VECTOR + " @@ " + QUERY;
+        } else if ("content".equals(searchType)) {
+            return CONTENT_VECTOR + " @@ " + QUERY;
+        }
+        return "(" + TITLE_VECTOR + " @@ " + QUERY + " OR " + CONTENT_VECTOR + " @@ " + QUERY + ")";
+    }
+
+    // 전체 검색 시 제목 일치(A)에 본문 일치(B)보다 높은 가중치
+    private String rankExpression(String searchType) {
+        if ("title".equals(searchType)) {
+            return "ts_rank(" + TITLE_VECTOR + ", " + QUERY + ")";
+        } else if ("content".equals(searchType)) {
+            return "ts_rank(" + CONTENT_VECTOR + ", " + QUERY + ")";
+        }
+        return "ts_rank(setweight(" + TITLE_VECTOR + ", 'A') || setweight(" + CONTENT_VECTOR + ", 'B'), " + QUERY + ")";
+    }
+
+    private MapSqlParameterSource params(List<Long> categoryIds, String query) {
+        MapSqlParameterSource params = new MapSqlParameterSource("query", query);
+        if (categoryIds != null && !categoryIds.isEmpty()) {
+            params.addValue("categoryIds", categoryIds);
+        }
+        return params;
+    }
+}
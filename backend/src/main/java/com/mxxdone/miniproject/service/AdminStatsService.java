@@ -1,30 +1,47 @@
 package com.mxxdone.miniproject.service;
 
+import com.mxxdone.miniproject.domain.DailyStats;
 import com.mxxdone.miniproject.dto.admin.AdminSummaryResponseDto;
 import com.mxxdone.miniproject.dto.admin.DailyStatResponseDto;
 import com.mxxdone.miniproject.dto.admin.PopularPostResponseDto;
 import com.mxxdone.miniproject.dto.admin.RecentCommentResponseDto;
+import com.mxxdone.miniproject.dto.admin.ViewDedupReportDto;
 import com.mxxdone.miniproject.repository.AdminStatsRepository;
+import com.mxxdone.miniproject.repository.DailyStatsRepository;
+import com.mxxdone.miniproject.service.view.ViewDeduplicator;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class AdminStatsService {
 
     private final AdminStatsRepository adminStatsRepository;
+    private final AdminSummaryCounterService adminSummaryCounterService;
+    private final DailyStatsRepository dailyStatsRepository;
+    private final ViewDeduplicator viewDeduplicator;
 
     private static final int MIN_LIMIT = 1;
     private static final int MAX_POPULAR_POSTS = 20;
     private static final int MAX_RECENT_COMMENTS = 50;
     private static final int MAX_DAILY_STATS_DAYS = 365;
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
 
+    // 요약 통계는 이벤트로 갱신되는 Redis 카운터에서 조회 (count 쿼리 X)
     public AdminSummaryResponseDto getSummary() {
-        return adminStatsRepository.getSummary();
+        return adminSummaryCounterService.getSummary();
     }
 
     public List<PopularPostResponseDto> getPopularPosts(int limit) {
@@ -38,7 +55,58 @@ public class AdminStatsService {
     }
 
     public List<DailyStatResponseDto> getCommentsDailyStats(int days) {
+        return getDailyStats(days, DailyStats::getComments, AdminSummaryCounterService.DailyCounts::comments);
+    }
+
+    public List<DailyStatResponseDto> getPostsDailyStats(int days) {
+        return getDailyStats(days, DailyStats::getPosts, AdminSummaryCounterService.DailyCounts::posts);
+    }
+
+    public List<DailyStatResponseDto> getUsersDailyStats(int days) {
+        return getDailyStats(days, DailyStats::getSignups, AdminSummaryCounterService.DailyCounts::users);
+    }
+
+    public List<DailyStatResponseDto> getViewsDailyStats(int days) {
+        return getDailyStats(days, DailyStats::getViews, AdminSummaryCounterService.DailyCounts::views);
+    }
+
+    public List<DailyStatResponseDto> getLikesDailyStats(int days) {
+        return getDailyStats(days, DailyStats::getLikes, AdminSummaryCounterService.DailyCounts::likes);
+    }
+
+    /**
+     * 일별 추이 (최근 N일 ~ 오늘, 빈 날짜는 0)
+     * 어제까지는 daily_stats 롤업 테이블에서, 오늘은 Redis 일별 카운터에서 읽는다.
+     */
+    private List<DailyStatResponseDto> getDailyStats(int days,
+                                                     ToLongFunction<DailyStats> rolledUp,
+                                                     ToLongFunction<AdminSummaryCounterService.DailyCounts> live) {
         int validDays = Math.min(Math.max(days, MIN_LIMIT), MAX_DAILY_STATS_DAYS);
-        return adminStatsRepository.getCommentsDailyStats(validDays);
+        LocalDate today = LocalDate.now(KST);
+        LocalDate from = today.minusDays(validDays);
+
+        Map<LocalDate, Long> countByDate = dailyStatsRepository.findByStatDateBetweenOrderByStatDateAsc(from, today.minusDays(1))
+                .stream()
+                .collect(Collectors.toMap(DailyStats::getStatDate, rolledUp::applyAsLong));
+
+        List<DailyStatResponseDto> result = new ArrayList<>();
+        for (LocalDate date = from; date.isBefore(today); date = date.plusDays(1)) {
+            result.add(new DailyStatResponseDto(date, countByDate.getOrDefault(date, 0L)));
+        }
+        result.add(new DailyStatResponseDto(today, todayCount(live)));
+        return result;
+    }
+
+    private long todayCount(ToLongFunction<AdminSummaryCounterService.DailyCounts> live) {
+        try {
+            return live.applyAsLong(adminSummaryCounterService.dailyCounts(LocalDate.now(KST)));
+        } catch (Exception e) {
+            log.error("오늘 일별 카운터 조회 실패", e);
+            return 0L;
+        }
+    }
+
+    public ViewDedupReportDto getViewDedupReport() {
+        return viewDeduplicator.report();
     }
 }
@@ -0,0 +1,170 @@
+package com.mxxdone.miniproject.service;
+
+import com.mxxdone.miniproject.dto.admin.AdminSummaryResponseDto;
+import com.mxxdone.miniproject.dto.event.AdminStatsEvent;
+import com.mxxdone.miniproject.repository.AdminStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 관리자 대시보드 요약 통계 카운터 (Redis)
+ * 대시보드를 열 때마다 count 쿼리 6개를 실행하지 않도록, 작성/삭제 이벤트마다 카운터를 증감하고
+ * 조회 시에는 Redis 해시 두 개만 읽는다.
+ *
+ * 키 구조
+ * - admin:summary                  → 전체 게시글/회원/댓글 수
+ * - admin:summary:daily:{KST 날짜}  → 그날 작성된 게시글/회원/댓글 수 + 조회수/좋아요 증감 (8일 후 만료)
+ *   (지난 날짜 값은 DailyStatsRollupJob이 daily_stats 테이블로 옮김)
+ *
+ * 카운터가 없거나(최초 기동, Redis 초기화) 이벤트 누락/중복으로 어긋난 값은
+ * 주기적인 재집계(app.admin-summary.reconcile-interval-ms)로 DB 값에 맞춘다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AdminSummaryCounterService {
+
+    private static final String TOTAL_KEY = "admin:summary";
+    private static final String DAILY_KEY_PREFIX = "admin:summary:daily:";
+    // 롤업 작업이 며칠 밀려도 조회수/좋아요 값을 옮길 수 있도록 여유를 둠
+    private static final Duration DAILY_TTL = Duration.ofDays(8);
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private static final String POSTS = "posts";
+    private static final String USERS = "users";
+    private static final String COMMENTS = "comments";
+    private static final String VIEWS = "views";
+    private static final String LIKES = "likes";
+    private static final List<Object> FIELDS = List.of(POSTS, USERS, COMMENTS);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final AdminStatsRepository adminStatsRepository;
+
+    public AdminSummaryResponseDto getSummary() {
+        try {
+            String todayKey = dailyKey(LocalDate.now(KST));
+            List<Object> totals = redisTemplate.opsForHash().multiGet(TOTAL_KEY, FIELDS);
+            if (totals.contains(null)) {
+                // 카운터가 아직 없으면 DB에서 집계 후 채움
+                return reconcile();
+            }
+            List<Object> today = redisTemplate.opsForHash().multiGet(todayKey, FIELDS);
+            return new AdminSummaryResponseDto(
+                    toLong(totals.get(0)), toLong(totals.get(1)), toLong(totals.get(2)),
+                    toLong(today.get(1)), toLong(today.get(0)), toLong(today.get(2))
+            );
+        } catch (Exception e) {
+            log.error("관리자 요약 카운터 조회 실패, DB 집계로 대체", e);
+            return adminStatsRepository.getSummary();
+        }
+    }
+
+    // 이벤트 반영 (AdminStatsEventListener에서 커밋 후 호출)
+    public void apply(AdminStatsEvent event) {
+        if (event.isRecount()) {
+            reconcile();
+            return;
+        }
+        String field = fieldOf(event.metric());
+        try {
+            redisTemplate.opsForHash().increment(TOTAL_KEY, field, event.delta());
+            // 오늘 작성된 대상이면 오늘 카운터도 반영 (어제 작성분 삭제는 오늘 카운터에 영향 X)
+            LocalDate today = LocalDate.now(KST);
+            if (event.createdAt() != null && LocalDate.ofInstant(event.createdAt(), KST).equals(today)) {
+                String todayKey = dailyKey(today);
+                redisTemplate.opsForHash().increment(todayKey, field, event.delta());
+                redisTemplate.expire(todayKey, DAILY_TTL);
+            }
+        } catch (Exception e) {
+            // 누락된 증감은 다음 재집계에서 보정
+            log.error("관리자 요약 카운터 반영 실패: {}", event, e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.admin-summary.reconcile-interval-ms:600000}")
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    // DB에서 다시 집계해 카운터를 덮어씀
+    // 집계와 덮어쓰기 사이에 반영된 증감은 다음 재집계까지 ±1 정도 어긋날 수 있음
+    public AdminSummaryResponseDto reconcile() {
+        AdminSummaryResponseDto summary = adminStatsRepository.getSummary();
+        try {
+            redisTemplate.opsForHash().putAll(TOTAL_KEY, Map.of(
+                    POSTS, String.valueOf(summary.totalPosts()),
+                    USERS, String.valueOf(summary.totalUsers()),
+                    COMMENTS, String.valueOf(summary.totalComments())
+            ));
+            String todayKey = dailyKey(LocalDate.now(KST));
+            Map<String, String> today = new HashMap<>();
+            today.put(POSTS, String.valueOf(summary.todayPosts()));
+            today.put(USERS, String.valueOf(summary.todayNewUsers()));
+            today.put(COMMENTS, String.valueOf(summary.todayComments()));
+            redisTemplate.opsForHash().putAll(todayKey, today);
+            redisTemplate.expire(todayKey, DAILY_TTL);
+        } catch (Exception e) {
+            log.error("관리자 요약 카운터 재집계 저장 실패", e);
+        }
+        return summary;
+    }
+
+    // 조회수 증가 기록 (중복 방지를 통과한 조회만)
+    public void recordView(long views) {
+        incrementDaily(VIEWS, views);
+    }
+
+    // 좋아요 토글 기록 (좋아요 +1, 취소 -1)
+    public void recordLike(boolean liked) {
+        incrementDaily(LIKES, liked ? 1 : -1);
+    }
+
+    /**
+     * 특정 날짜의 일별 카운터
+     * @return 게시글/회원/댓글/조회수/좋아요 순서의 값 (없으면 0)
+     */
+    public DailyCounts dailyCounts(LocalDate date) {
+        List<Object> values = redisTemplate.opsForHash()
+                .multiGet(dailyKey(date), List.of(POSTS, USERS, COMMENTS, VIEWS, LIKES));
+        return new DailyCounts(toLong(values.get(0)), toLong(values.get(1)), toLong(values.get(2)),
+                toLong(values.get(3)), toLong(values.get(4)));
+    }
+
+    public record DailyCounts(long posts, long users, long comments, long views, long likes) {}
+
+    private void incrementDaily(String field, long delta) {
+        try {
+            // 만료 시간은 재집계/작성 이벤트 반영 시 설정됨
+            redisTemplate.opsForHash().increment(dailyKey(LocalDate.now(KST)), field, delta);
+        } catch (Exception e) {
+            log.error("일별 {} 카운터 증가 실패", field, e);
+        }
+    }
+
+    private static String dailyKey(LocalDate date) {
+        return DAILY_KEY_PREFIX + date;
+    }
+
+    private static String fieldOf(AdminStatsEvent.Metric metric) {
+        return switch (metric) {
+            case POSTS -> POSTS;
+            case USERS -> USERS;
+            case COMMENTS -> COMMENTS;
+        };
+    }
+
+    private static long toLong(Object value) {
+        return value != null ? Long.parseLong(value.toString()) : 0L;
+    }
+}
@@ -0,0 +1,194 @@
+package com.mxxdone.miniproject.service;
+
+import com.mxxdone.miniproject.config.cache.CacheInvalidationBus;
+import com.mxxdone.miniproject.dto.category.CategoryRowDto;
+import com.mxxdone.miniproject.repository.CategoryRepository;
+import com.mxxdone.miniproject.util.AfterCommit;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 카테고리 트리의 메모리 인덱스
+ * 카테고리는 거의 바뀌지 않으므로 전체를 한 번에 읽어 불변 스냅샷으로 만들고,
+ * 경로/하위 id/slug 조회를 DB나 지연 로딩 없이 O(1)로 처리한다.
+ *
+ * 스냅샷 갱신 시점
+ * - 카테고리 저장 커밋 후 (다른 인스턴스에는 CacheInvalidationBus로 전파)
+ * - 주기적으로 (app.category-index.refresh-interval-ms, 전파 누락 대비)
+ * - 인덱스에 없는 카테고리 조회 시 (id는 DB에 있을 때만, slug는 최소 간격을 두고 재조회)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryIndex {
+
+    private static final String BUS_NAME = "categories::index";
+    // 없는 slug 조회로 재조회가 반복되지 않도록 하는 최소 간격
+    private static final long MISS_RELOAD_INTERVAL_MS = 1000;
+
+    private final CategoryRepository categoryRepository;
+    private final CacheInvalidationBus invalidationBus;
+
+    private volatile Snapshot snapshot;
+    private volatile long loadedAt;
+
+    /**
+     * 카테고리 한 건의 인덱스 정보
+     * @param pathIds 자신부터 최상위까지의 id (자신, 부모, ...)
+     * @param descendantIdsAndSelf 자신 + 모든 하위 카테고리 id
+     * @param slugPath URL 경로 (최상위면 "slug", 하위면 "부모slug/slug")
+     */
+    public record CategoryNode(
+            Long id,
+            Long parentId,
+            String name,
+            String slug,
+            List<Long> pathIds,
+            List<Long> descendantIdsAndSelf,
+            String slugPath,
+            boolean isLeaf
+    ) {}
+
+    // rows: 트리 조립용 평면 목록 (displayOrder 순)
+    private record Snapshot(List<CategoryRowDto> rows, Map<Long, CategoryNode> byId, Map<String, Long> idBySlugPath) {}
+
+    @PostConstruct
+    void init() {
+        // 다른 인스턴스에서 카테고리를 저장하면 인덱스 재구성
+        invalidationBus.register(BUS_NAME, keys -> reload());
+    }
+
+    public List<CategoryRowDto> rows() {
+        return current().rows();
+    }
+
+    public Optional<CategoryNode> find(Long categoryId) {
+        if (categoryId == null) {
+            return Optional.empty();
+        }
+        CategoryNode node = current().byId().get(categoryId);
+        // 다른 인스턴스에서 방금 추가된 카테고리일 수 있으므로 DB에 있으면 재구성
+        if (node == null && categoryRepository.existsById(categoryId)) {
+            reload();
+            node = snapshot.byId().get(categoryId);
+        }
+        return Optional.ofNullable(node);
+    }
+
+    public CategoryNode get(Long categoryId) {
+        return find(categoryId)
+                .orElseThrow(() -> new NoSuchElementException("해당 카테고리를 찾을 수 없습니다. id=" + categoryId));
+    }
+
+    // slug 경로("부모slug/slug" 또는 최상위 "slug")로 카테고리 id 조회
+    public Optional<Long> findIdBySlugPath(String slugPath) {
+        if (slugPath == null) {
+            return Optional.empty();
+        }
+        Long id = current().idBySlugPath().get(slugPath);
+        if (id == null && reloadOnMiss()) {
+            id = snapshot.idBySlugPath().get(slugPath);
+        }
+        return Optional.ofNullable(id);
+    }
+
+    // 카테고리 저장 후 호출 - 트랜잭션 안이면 커밋 후 재구성
+    public void refreshAfterCommit() {
+        AfterCommit.run(this::refresh);
+    }
+
+    @Scheduled(fixedDelayString = "${app.category-index.refresh-interval-ms:300000}")
+    public void scheduledRefresh() {
+        reload();
+    }
+
+    private void refresh() {
+        reload();
+        invalidationBus.publish(BUS_NAME, null);
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    reload();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private boolean reloadOnMiss() {
+        if (System.currentTimeMillis() - loadedAt < MISS_RELOAD_INTERVAL_MS) {
+            return false;
+        }
+        reload();
+        return true;
+    }
+
+    private synchronized void reload() {
+        try {
+            snapshot = build(categoryRepository.findAllRows());
+            loadedAt = System.currentTimeMillis();
+        } catch (Exception e) {
+            // 재조회 실패 시 이전 스냅샷 유지 (처음 로딩이면 예외 전파)
+            log.error("카테고리 인덱스 갱신 실패", e);
+            if (snapshot == null) {
+                throw e;
+            }
+        }
+    }
+
+    private static Snapshot build(List<CategoryRowDto> rows) {
+        Map<Long, CategoryRowDto> rowById = new HashMap<>();
+        Map<Long, List<Long>> childIdsByParentId = new HashMap<>();
+        for (CategoryRowDto row : rows) {
+            rowById.put(row.id(), row);
+            if (row.parentId() != null) {
+                childIdsByParentId.computeIfAbsent(row.parentId(), id -> new ArrayList<>()).add(row.id());
+            }
+        }
+
+        Map<Long, CategoryNode> byId = new HashMap<>();
+        Map<String, Long> idBySlugPath = new HashMap<>();
+        for (CategoryRowDto row : rows) {
+            List<Long> pathIds = new ArrayList<>();
+            Deque<String> slugs = new ArrayDeque<>();
+            CategoryRowDto current = row;
+            // 잘못된 데이터로 순환이 생겨도 멈추도록 깊이 제한
+            while (current != null && pathIds.size() <= rows.size()) {
+                pathIds.add(current.id());
+                slugs.addFirst(current.slug());
+                current = current.parentId() != null ? rowById.get(current.parentId()) : null;
+            }
+
+            List<Long> descendantIdsAndSelf = new ArrayList<>();
+            collectIds(row.id(), childIdsByParentId, descendantIdsAndSelf);
+
+            String slugPath = String.join("/", slugs);
+            byId.put(row.id(), new CategoryNode(
+                    row.id(), row.parentId(), row.name(), row.slug(),
+                    List.copyOf(pathIds), List.copyOf(descendantIdsAndSelf), slugPath,
+                    !childIdsByParentId.containsKey(row.id())
+            ));
+            idBySlugPath.putIfAbsent(slugPath, row.id());
+        }
+        return new Snapshot(List.copyOf(rows), Map.copyOf(byId), Map.copyOf(idBySlugPath));
+    }
+
+    private static void collectIds(Long id, Map<Long, List<Long>> childIdsByParentId, List<Long> ids) {
+        ids.add(id);
+        for (Long childId : childIdsByParentId.getOrDefault(id, List.of())) {
+            if (!ids.contains(childId)) {
+                collectIds(childId, childIdsByParentId, ids);
+            }
+        }
+    }
+}
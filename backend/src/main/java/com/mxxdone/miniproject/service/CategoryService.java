@@ -1,9 +1,13 @@
 package com.mxxdone.miniproject.service;
 
 import com.mxxdone.miniproject.domain.Category;
+import com.mxxdone.miniproject.dto.category.CategoryPostCountDto;
 import com.mxxdone.miniproject.dto.category.CategoryResponseDto;
 import com.mxxdone.miniproject.dto.category.CategorySaveRequestDto;
 import com.mxxdone.miniproject.repository.CategoryRepository;
+import com.mxxdone.miniproject.repository.PostRepository;
+import com.mxxdone.miniproject.util.CategoryTreeBuilder;
+import com.mxxdone.miniproject.util.ConditionalResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
@@ -11,6 +15,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.stream.Collectors;
 
@@ -20,6 +25,9 @@ import java.util.stream.Collectors;
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final PostRepository postRepository;
+    private final CategoryIndex categoryIndex;
+    private final ContentVersionService contentVersionService;
 
     @CacheEvict(value = "categories", allEntries = true) // 캐시 지우기
     public Long save(CategorySaveRequestDto requestDto) {
@@ -34,14 +42,25 @@ public class CategoryService {
                     .orElseThrow(() -> new NoSuchElementException("상위 카테고리를 찾을 수 없습니다. id=" + requestDto.parentId()));
             category.setParent(parent);
         }
-        return categoryRepository.save(category).getId();
+        Long id = categoryRepository.save(category).getId();
+        // 커밋 후 카테고리 인덱스 재구성 (다른 인스턴스에도 전파)
+        categoryIndex.refreshAfterCommit();
+        contentVersionService.bumpCategories();
+        return id;
     }
 
     @Cacheable("categories")
     @Transactional(readOnly = true)
     public List<CategoryResponseDto> findAll() {
-        return categoryRepository.findAllForDisplay().stream()
-                .map(CategoryResponseDto::from)
-                .collect(Collectors.toList());
+        // 카테고리 구조는 인덱스에서, 게시글 수는 집계 쿼리 1번 (게시글 엔티티는 로딩하지 않음)
+        Map<Long, Long> postCounts = postRepository.countGroupByCategory().stream()
+                .filter(count -> count.categoryId() != null)
+                .collect(Collectors.toMap(CategoryPostCountDto::categoryId, CategoryPostCountDto::postCount));
+        return CategoryTreeBuilder.build(categoryIndex.rows(), postCounts);
+    }
+
+    // 카테고리 목록 응답의 ETag (카테고리/게시글 수가 바뀌는 쓰기 커밋 후 증가하는 버전)
+    public String findCategoriesETag() {
+        return ConditionalResponse.eTagOf("categories", contentVersionService.categoriesVersion());
     }
 }
@@ -1,25 +1,34 @@
 package com.mxxdone.miniproject.service;
 
 import com.mxxdone.miniproject.domain.*;
+import com.mxxdone.miniproject.dto.CursorPageDto;
+import com.mxxdone.miniproject.dto.KeysetCursor;
 import com.mxxdone.miniproject.dto.comment.CommentResponseDto;
+import com.mxxdone.miniproject.dto.comment.CommentRowDto;
 import com.mxxdone.miniproject.dto.comment.CommentSaveRequestDto;
+import com.mxxdone.miniproject.dto.comment.CommentThreadResponseDto;
 import com.mxxdone.miniproject.dto.comment.CommentUpdateRequestDto;
+import com.mxxdone.miniproject.dto.event.AdminStatsEvent;
 import com.mxxdone.miniproject.dto.event.NotificationEvent;
 import com.mxxdone.miniproject.repository.CommentRepository;
 import com.mxxdone.miniproject.repository.PostRepository;
 import com.mxxdone.miniproject.repository.UserRepository;
+import com.mxxdone.miniproject.util.CommentTreeBuilder;
+import com.mxxdone.miniproject.util.ConditionalResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -27,11 +36,18 @@ import java.util.Objects;
 @Transactional
 public class CommentService {
 
+    private static final int MIN_PAGE_SIZE = 1;
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int MAX_PREVIEW_REPLIES = 10;
+
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final PostListCacheService postListCacheService;
+    private final PostDetailCacheService postDetailCacheService;
+    private final ContentVersionService contentVersionService;
+    private final CategoryIndex categoryIndex;
     private final ApplicationEventPublisher eventPublisher;
 
     // 댓글 생성
@@ -68,7 +84,15 @@ public class CommentService {
 
         Comment comment = commentBuilder.build();
         Comment savedComment = commentRepository.save(comment);
-        redisTemplate.delete("posts::page_1");
+        postRepository.incrementCommentCount(post.getId());
+        // 관리자 댓글은 대시보드 댓글 수에서 제외
+        if (currentUser == null || currentUser.getRole() != Role.ADMIN) {
+            eventPublisher.publishEvent(AdminStatsEvent.created(AdminStatsEvent.Metric.COMMENTS, savedComment.getCreatedAt()));
+        }
+        // 댓글 수가 바뀐 게시글의 상세/목록 캐시 삭제
+        contentVersionService.bumpComments(post.getId());
+        postDetailCacheService.evict(post.getId());
+        postListCacheService.evictPost(post.getId());
 
         // 알림 발송 메서드 호출
         publishNotification(post, savedComment, parent, currentUser);
@@ -78,13 +102,12 @@ public class CommentService {
 
     // 알림 발행 로직
     private void publishNotification(Post post, Comment savedComment, Comment parent, User currentUser) {
-        Category childCategory = post.getCategory();
-        Category parentCategory = childCategory.getParent();
-        String parentSlug = (parentCategory != null) ? parentCategory.getSlug() : "category";
-        String childSlug = childCategory.getSlug();
+        // 카테고리 경로는 인덱스에서 (카테고리/상위 카테고리 지연 로딩 X)
+        CategoryIndex.CategoryNode category = categoryIndex.get(post.getCategory().getId());
+        String categoryPath = (category.parentId() != null) ? category.slugPath() : "category/" + category.slug();
 
         // 앵커(#comment-id)를 통해 해당 댓글로 바로 이동
-        String url = "/" + parentSlug + "/" + childSlug + "/posts/" + post.getId() + "#comment-" + savedComment.getId();
+        String url = "/" + categoryPath + "/posts/" + post.getId() + "#comment-" + savedComment.getId();
 
         // 게시글 작성자에게 알림
         User postAuthor = null;
@@ -136,11 +159,70 @@ public class CommentService {
     // 특정 게시글 댓글 조회
     @Transactional(readOnly = true)
     public List<CommentResponseDto> findByPostId(Long postId) {
-        List<Comment> roots = commentRepository.findVisibleCommentsByPostId(postId);
+        // 평면 조회 1번 + 메모리에서 트리 조립 (대댓글 지연 로딩 없음)
+        return CommentTreeBuilder.build(commentRepository.findCommentRowsByPostId(postId));
+    }
+
+    // 특정 게시글 댓글 스레드 조회 (루트 댓글 커서 페이징 + 답글 수 + 먼저 작성된 답글 미리보기)
+    @Transactional(readOnly = true)
+    public CursorPageDto<CommentThreadResponseDto> findThreads(Long postId, String after, int size, int replies) {
+        int validSize = Math.min(Math.max(size, MIN_PAGE_SIZE), MAX_PAGE_SIZE);
+        int validReplies = Math.min(Math.max(replies, 0), MAX_PREVIEW_REPLIES);
+
+        List<CommentRowDto> fetched = commentRepository.findRootRows(postId, KeysetCursor.parse(after), validSize);
+        CursorPageDto<CommentRowDto> page = CursorPageDto.of(fetched, validSize, row -> KeysetCursor.of(row.createdAt(), row.id()).encode());
+        List<Long> rootIds = page.content().stream().map(CommentRowDto::id).toList();
+
+        // 루트 댓글 전체에 대해 답글 미리보기 1번, 답글 수 1번 조회
+        Map<Long, List<CommentRowDto>> previewsByRootId = commentRepository
+                .findFirstRepliesByParentIds(rootIds, validReplies).stream()
+                .collect(Collectors.groupingBy(CommentRowDto::parentId));
+        List<Long> previewIds = previewsByRootId.values().stream()
+                .flatMap(List::stream)
+                .map(CommentRowDto::id)
+                .toList();
+        List<Long> countTargetIds = new ArrayList<>(rootIds);
+        countTargetIds.addAll(previewIds);
+        Map<Long, Long> replyCounts = commentRepository.countRepliesByParentIds(countTargetIds);
+
+        List<CommentThreadResponseDto> threads = page.content().stream()
+                .map(root -> CommentThreadResponseDto.of(
+                        root,
+                        replyCounts.getOrDefault(root.id(), 0L),
+                        previewsByRootId.getOrDefault(root.id(), List.of()).stream()
+                                .map(reply -> CommentThreadResponseDto.of(reply, replyCounts.getOrDefault(reply.id(), 0L), List.of()))
+                                .toList()
+                ))
+                .toList();
+        return new CursorPageDto<>(threads, page.nextCursor(), page.hasNext(), page.size());
+    }
+
+    // 특정 댓글의 답글 커서 페이징 조회 (각 답글의 답글 수 포함)
+    @Transactional(readOnly = true)
+    public CursorPageDto<CommentThreadResponseDto> findReplies(Long commentId, String after, int size) {
+        int validSize = Math.min(Math.max(size, MIN_PAGE_SIZE), MAX_PAGE_SIZE);
 
-        return roots.stream()
-                .map(CommentResponseDto::from)
+        List<CommentRowDto> fetched = commentRepository.findReplyRows(commentId, KeysetCursor.parse(after), validSize);
+        CursorPageDto<CommentRowDto> page = CursorPageDto.of(fetched, validSize, row -> KeysetCursor.of(row.createdAt(), row.id()).encode());
+        Map<Long, Long> replyCounts = commentRepository.countRepliesByParentIds(
+                page.content().stream().map(CommentRowDto::id).toList());
+
+        List<CommentThreadResponseDto> replies = page.content().stream()
+                .map(reply -> CommentThreadResponseDto.of(reply, replyCounts.getOrDefault(reply.id(), 0L), List.of()))
                 .toList();
+        return new CursorPageDto<>(replies, page.nextCursor(), page.hasNext(), page.size());
+    }
+
+    // 게시글별 댓글 목록 응답의 ETag (댓글 작성/수정/삭제 때마다 바뀌는 버전)
+    public String findCommentsETag(Long postId) {
+        return ConditionalResponse.eTagOf("comments-" + postId, contentVersionService.commentsVersion(postId));
+    }
+
+    // 답글 목록 응답의 ETag (답글도 같은 게시글의 댓글 버전으로 판단, 없는 댓글이면 null -> 전체 응답)
+    public String findRepliesETag(Long commentId) {
+        return commentRepository.findPostIdById(commentId)
+                .map(postId -> ConditionalResponse.eTagOf("replies-" + commentId, contentVersionService.commentsVersion(postId)))
+                .orElse(null);
     }
 
     // 댓글 수정
@@ -156,6 +238,7 @@ public class CommentService {
             throw new AccessDeniedException("댓글을 수정할 권한이 없습니다.");
         }
         comment.update(requestDto.content());
+        contentVersionService.bumpComments(comment.getPost().getId());
     }
 
     // 댓글 삭제
@@ -184,8 +267,17 @@ public class CommentService {
             throw new AccessDeniedException("댓글을 삭제할 권한이 없습니다.");
         }
 
-        comment.softDelete();
+        // 이미 삭제된 댓글을 다시 삭제할 때는 댓글 수를 줄이지 않음
+        if (!comment.isDeleted()) {
+            comment.softDelete();
+            postRepository.decrementCommentCount(comment.getPost().getId());
+            if (comment.getAuthor() == null || comment.getAuthor().getRole() != Role.ADMIN) {
+                eventPublisher.publishEvent(AdminStatsEvent.deleted(AdminStatsEvent.Metric.COMMENTS, comment.getCreatedAt()));
+            }
+        }
 
-        redisTemplate.delete("posts::page_1");
+        contentVersionService.bumpComments(comment.getPost().getId());
+        postDetailCacheService.evict(comment.getPost().getId());
+        postListCacheService.evictPost(comment.getPost().getId());
     }
 }
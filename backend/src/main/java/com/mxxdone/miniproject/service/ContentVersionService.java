@@ -0,0 +1,85 @@
+package com.mxxdone.miniproject.service;
+
+import com.mxxdone.miniproject.util.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+
+/**
+ * 조건부 요청(ETag)용 콘텐츠 버전 번호
+ * 응답 본문을 만들지 않고도 바뀌었는지 판단할 수 있도록, 쓰기가 일어날 때마다 버전을 1씩 올린다.
+ *
+ * 키 구조
+ * - version:posts:{카테고리 id | all} → 카테고리별 게시글 목록 버전 (목록 캐시 카테고리 태그와 같은 단위)
+ * - version:comments:{게시글 id}  → 게시글별 댓글 목록 버전
+ * - version:categories            → 카테고리 목록 버전 (카테고리/게시글 저장·삭제 커밋 후 증가)
+ *
+ * 버전 키는 만료시키지 않는다. (만료 후 0부터 다시 세면 예전 ETag와 겹칠 수 있음)
+ * Redis 장애 시 null을 반환하며, 이 경우 ETag 없이 전체 응답을 내려준다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ContentVersionService {
+
+    private static final String POSTS_KEY_PREFIX = "version:posts:";
+    private static final String ALL = "all";
+    private static final String COMMENTS_KEY_PREFIX = "version:comments:";
+    private static final String CATEGORIES_KEY = "version:categories";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 카테고리 목록 버전 (categoryId가 null이면 전체 목록)
+    public Long postsVersion(Long categoryId) {
+        return read(POSTS_KEY_PREFIX + (categoryId != null ? categoryId : ALL));
+    }
+
+    // 게시글이 바뀐 카테고리(자신 + 상위)와 전체 목록의 버전 증가 -> 다른 카테고리 목록의 ETag는 유지
+    public void bumpPosts(Collection<Long> categoryIds) {
+        bump(POSTS_KEY_PREFIX + ALL);
+        categoryIds.forEach(id -> bump(POSTS_KEY_PREFIX + id));
+    }
+
+    public Long commentsVersion(Long postId) {
+        return read(COMMENTS_KEY_PREFIX + postId);
+    }
+
+    public void bumpComments(Long postId) {
+        bump(COMMENTS_KEY_PREFIX + postId);
+    }
+
+    public Long categoriesVersion() {
+        return read(CATEGORIES_KEY);
+    }
+
+    public void bumpCategories() {
+        bump(CATEGORIES_KEY);
+    }
+
+    private Long read(String key) {
+        try {
+            String value = redisTemplate.opsForValue().get(key);
+            return value != null ? Long.parseLong(value) : 0L;
+        } catch (Exception e) {
+            log.error("콘텐츠 버전 조회 실패: {}", key, e);
+            return null;
+        }
+    }
+
+    // 트랜잭션 안이면 커밋 후에 증가
+    // (커밋 전에 올리면 다른 요청이 이전 데이터를 새 ETag로 받아 계속 304를 받을 수 있음)
+    private void bump(String key) {
+        AfterCommit.run(() -> increment(key));
+    }
+
+    private void increment(String key) {
+        try {
+            redisTemplate.opsForValue().increment(key);
+        } catch (Exception e) {
+            log.error("콘텐츠 버전 증가 실패: {}", key, e);
+        }
+    }
+}
@@ -1,13 +1,14 @@
 package com.mxxdone.miniproject.service;
 
-import com.mxxdone.miniproject.domain.Notification;
-import com.mxxdone.miniproject.domain.User;
+import com.mxxdone.miniproject.dto.CursorPageDto;
+import com.mxxdone.miniproject.dto.KeysetCursor;
 import com.mxxdone.miniproject.dto.notification.NotificationResponseDto;
 import com.mxxdone.miniproject.repository.NotificationRepository;
-import com.mxxdone.miniproject.repository.UserRepository;
+import com.mxxdone.miniproject.util.AfterCommit;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -18,49 +19,68 @@ import java.util.NoSuchElementException;
 @Transactional(readOnly = true)
 public class NotificationService {
 
+    private static final int MIN_PAGE_SIZE = 1;
+    private static final int MAX_PAGE_SIZE = 50;
+
     private final NotificationRepository notificationRepository;
-    private final UserRepository userRepository;
+    private final UnreadNotificationCounter unreadNotificationCounter;
 
-    // 내 알림 목록 조회
-    public List<NotificationResponseDto> findAllByUsername(String username) {
-        User user = getUser(username);
-        return notificationRepository.findAllByReceiverIdAndIsReadFalseOrderByCreatedAtDesc(user.getId())
+    // 내 안 읽은 알림 목록 조회 (최신 50건)
+    public List<NotificationResponseDto> findUnread(Long userId) {
+        return notificationRepository.findTop50ByReceiverIdAndIsReadFalseOrderByCreatedAtDescIdDesc(userId)
                 .stream()
                 .map(NotificationResponseDto::from)
                 .toList();
     }
 
-    // 안 읽은 알림 개수 조회
-    public long countUnreadNotifications(String username) {
-        User user = getUser(username);
-        return notificationRepository.countByReceiverIdAndIsReadFalse(user.getId());
+    // 내 알림 내역 조회 (커서 페이징, read가 null이면 전체)
+    public CursorPageDto<NotificationResponseDto> findHistory(Long userId, Boolean read, String after, int size) {
+        int validSize = Math.min(Math.max(size, MIN_PAGE_SIZE), MAX_PAGE_SIZE);
+        List<NotificationResponseDto> fetched = notificationRepository
+                .findHistory(userId, read, KeysetCursor.parse(after), validSize).stream()
+                .map(NotificationResponseDto::from)
+                .toList();
+        return CursorPageDto.of(fetched, validSize, notification -> KeysetCursor.of(notification.createdAt(), notification.id()).encode());
+    }
+
+    // 안 읽은 알림 개수 조회 (Redis 카운터, 없을 때만 DB 집계)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long countUnread(Long userId) {
+        return unreadNotificationCounter.get(userId);
     }
 
     // 읽음 처리
     @Transactional
-    public void markAsRead(Long notificationId, String username) {
-        Notification notification = notificationRepository.findById(notificationId)
+    public void markAsRead(Long notificationId, Long userId) {
+        // 안 읽은 본인 알림일 때만 1건 변경 -> 동시에 같은 알림을 읽어도 카운터는 한 번만 감소
+        int updated = notificationRepository.markAsReadByIds(userId, List.of(notificationId));
+        if (updated > 0) {
+            AfterCommit.run(() -> unreadNotificationCounter.decrement(userId, updated));
+            return;
+        }
+        // 변경이 없으면 이유 확인 (없는 알림 / 다른 사용자 알림 / 이미 읽은 알림)
+        Long receiverId = notificationRepository.findReceiverIdById(notificationId)
                 .orElseThrow(() -> new NoSuchElementException("존재하지 않는 알림입니다."));
-
-        // 본인 알림인지 확인
-        if (!notification.getReceiver().getUsername().equals(username)) {
+        if (!receiverId.equals(userId)) {
             throw new AccessDeniedException("해당 알림을 읽을 권한이 없습니다.");
         }
-        // isRead 값을 true로 변경 (더티 체킹으로 자동 저장)
-        notification.read();
     }
 
-    // 전체 읽음 처리 (모두 읽음 버튼용)
+    // 선택한 알림 읽음 처리 (본인 알림이 아니거나 이미 읽은 id는 무시), 처리된 건수 반환
     @Transactional
-    public void markAllAsRead(String username) {
-        User user = getUser(username);
-        List<Notification> notifications = notificationRepository.findAllByReceiverIdAndIsReadFalseOrderByCreatedAtDesc(user.getId());
-        notifications.forEach(Notification::read);
+    public int markAsRead(List<Long> notificationIds, Long userId) {
+        int updated = notificationRepository.markAsReadByIds(userId, notificationIds.stream().distinct().toList());
+        if (updated > 0) {
+            AfterCommit.run(() -> unreadNotificationCounter.decrement(userId, updated));
+        }
+        return updated;
     }
 
-    // 사용자 조회
-    private User getUser(String username) {
-        return userRepository.findByUsername(username)
-                .orElseThrow(() -> new NoSuchElementException("사용자를 찾을 수 없습니다."));
+    // 전체 읽음 처리 (모두 읽음 버튼용), 처리된 건수 반환
+    @Transactional
+    public int markAllAsRead(Long userId) {
+        int updated = notificationRepository.markAllAsReadByReceiverId(userId);
+        AfterCommit.run(() -> unreadNotificationCounter.reset(userId));
+        return updated;
     }
 }
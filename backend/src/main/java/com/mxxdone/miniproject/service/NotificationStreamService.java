@@ -0,0 +1,212 @@
+package com.mxxdone.miniproject.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mxxdone.miniproject.config.security.PrincipalDetails;
+import com.mxxdone.miniproject.config.security.jwt.JwtUtil;
+import com.mxxdone.miniproject.dto.notification.NotificationResponseDto;
+import com.mxxdone.miniproject.dto.notification.StreamTicketResponseDto;
+import com.mxxdone.miniproject.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 알림 실시간 전송 (Server-Sent Events)
+ * 클라이언트가 안 읽은 알림 수를 주기적으로 조회(polling)하는 대신, 연결을 열어두고 새 알림을 바로 받는다.
+ *
+ * - 연결(SseEmitter)은 이 인스턴스의 메모리에만 있으므로, 알림은 Redis Pub/Sub으로 모든 인스턴스에 보내고
+ *   각 인스턴스가 자기에게 연결된 사용자에게만 전달한다.
+ * - 이벤트 id는 알림 id -> 재연결 시 브라우저가 보내는 Last-Event-ID 이후 알림을 DB에서 다시 보내준다.
+ *   재전송 전에 연결을 등록하므로(그 사이 알림을 놓치지 않도록) 같은 알림이 실시간/재전송 양쪽에서 올 수 있어,
+ *   연결마다 보낸 알림 id를 기억해 한 번만 보낸다.
+ * - 프록시/로드밸런서가 유휴 연결을 끊지 않도록 주기적으로 heartbeat(주석 이벤트)를 보낸다.
+ * - 브라우저 EventSource는 Authorization 헤더를 보낼 수 없으므로, 헤더 인증으로 짧은 티켓을 받아
+ *   /stream?ticket= 으로 연결한다. (티켓 만료 후 재연결은 새 티켓 + lastEventId 파라미터로)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationStreamService implements MessageListener {
+
+    public static final String CHANNEL = "notification:stream";
+    private static final String EVENT_NAME = "notification";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final NotificationRepository notificationRepository;
+    private final JwtUtil jwtUtil;
+
+    // 사용자 id -> (연결 id -> 연결), 한 사용자가 여러 탭을 열 수 있음
+    private final Map<Long, Map<String, Connection>> emitters = new ConcurrentHashMap<>();
+
+    @Value("${app.notification.sse-timeout-ms:1800000}")
+    private long timeoutMs;
+
+    record StreamMessage(Long receiverId, NotificationResponseDto notification) {}
+
+    /**
+     * 연결 하나의 상태
+     * sentIds: 재전송한 알림 id + 재전송이 끝나기 전에 실시간으로 보낸 알림 id (최대 재전송 건수 정도로 작게 유지)
+     * 알림 전송은 연결 단위로 동기화해서 확인과 전송 사이에 다른 쪽이 끼어들지 않게 한다.
+     */
+    private static final class Connection {
+        private final SseEmitter emitter;
+        private final Set<Long> sentIds = new HashSet<>();
+        private boolean replaying = true;
+
+        private Connection(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+
+    // 스트림 연결 티켓 발급 (헤더로 인증된 사용자)
+    public StreamTicketResponseDto issueTicket(PrincipalDetails principalDetails) {
+        String ticket = jwtUtil.createStreamTicket(principalDetails.getId(), principalDetails.getUsername(),
+                principalDetails.getRole(), principalDetails.getNickname());
+        return new StreamTicketResponseDto(ticket, jwtUtil.getStreamTicketExpirationSeconds());
+    }
+
+    /**
+     * 알림 스트림 구독
+     * @param lastEventId 재연결 시 마지막으로 받은 알림 id (없으면 null)
+     */
+    public SseEmitter subscribe(Long userId, String lastEventId) {
+        String emitterId = UUID.randomUUID().toString();
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Connection connection = new Connection(emitter);
+        emitters.computeIfAbsent(userId, id -> new ConcurrentHashMap<>()).put(emitterId, connection);
+
+        emitter.onCompletion(() -> remove(userId, emitterId));
+        emitter.onTimeout(() -> {
+            remove(userId, emitterId);
+            // 정상 종료로 처리 -> AsyncRequestTimeoutException이 전역 예외 처리로 넘어가 500(JSON)을 쓰지 않도록
+            // 브라우저는 Last-Event-ID로 재연결
+            emitter.complete();
+        });
+        emitter.onError(e -> remove(userId, emitterId));
+
+        // 연결 직후 한 번 보내야 응답이 시작됨 (일부 프록시는 첫 바이트 전까지 연결을 보류)
+        send(userId, emitterId, emitter, SseEmitter.event().name("connect").data("connected"));
+        replay(userId, emitterId, connection, lastEventId);
+        return emitter;
+    }
+
+    // 새 알림 전파 (NotificationWriter에서 저장 후 호출)
+    public void publish(Long receiverId, NotificationResponseDto notification) {
+        try {
+            String payload = objectMapper.writeValueAsString(new StreamMessage(receiverId, notification));
+            redisTemplate.convertAndSend(CHANNEL, payload);
+        } catch (Exception e) {
+            // 전파 실패 시 클라이언트는 다음 재연결(Last-Event-ID) 또는 목록 조회 때 받음
+            log.error("알림 스트림 발행 실패 (receiverId: {})", receiverId, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            StreamMessage streamMessage = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), StreamMessage.class);
+            Map<String, Connection> userEmitters = emitters.get(streamMessage.receiverId());
+            if (userEmitters == null) {
+                return; // 이 인스턴스에 연결된 탭 없음
+            }
+            userEmitters.forEach((emitterId, connection) ->
+                    sendLive(streamMessage.receiverId(), emitterId, connection, streamMessage.notification()));
+        } catch (Exception e) {
+            log.error("알림 스트림 메시지 처리 실패", e);
+        }
+    }
+
+    @Scheduled(fixedRateString = "${app.notification.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        emitters.forEach((userId, userEmitters) -> userEmitters.forEach((emitterId, connection) ->
+                send(userId, emitterId, connection.emitter, SseEmitter.event().comment("heartbeat"))));
+    }
+
+    // Last-Event-ID 이후 놓친 알림 재전송
+    private void replay(Long userId, String emitterId, Connection connection, String lastEventId) {
+        try {
+            Long lastId = parseLastEventId(lastEventId);
+            if (lastId == null) {
+                return;
+            }
+            List<NotificationResponseDto> missed = notificationRepository
+                    .findTop100ByReceiverIdAndIdGreaterThanOrderByIdAsc(userId, lastId).stream()
+                    .map(NotificationResponseDto::from)
+                    .toList();
+            synchronized (connection) {
+                for (NotificationResponseDto notification : missed) {
+                    // 재전송 준비 중에 실시간으로 이미 보낸 알림은 건너뜀
+                    if (connection.sentIds.add(notification.id())) {
+                        send(userId, emitterId, connection.emitter, notificationEvent(notification));
+                    }
+                }
+            }
+        } finally {
+            synchronized (connection) {
+                connection.replaying = false;
+            }
+        }
+    }
+
+    // 실시간 알림 전송 (이미 재전송한 알림이면 건너뜀)
+    private void sendLive(Long userId, String emitterId, Connection connection, NotificationResponseDto notification) {
+        synchronized (connection) {
+            boolean alreadySent = connection.replaying
+                    ? !connection.sentIds.add(notification.id())
+                    : connection.sentIds.contains(notification.id());
+            if (!alreadySent) {
+                send(userId, emitterId, connection.emitter, notificationEvent(notification));
+            }
+        }
+    }
+
+    // 형식이 다르면 재전송 생략 (클라이언트는 목록 조회로 보완)
+    private static Long parseLastEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static SseEmitter.SseEventBuilder notificationEvent(NotificationResponseDto notification) {
+        return SseEmitter.event().id(String.valueOf(notification.id())).name(EVENT_NAME).data(notification);
+    }
+
+    private void send(Long userId, String emitterId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 연결을 끊은 경우 -> 정리
+            remove(userId, emitterId);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void remove(Long userId, String emitterId) {
+        emitters.computeIfPresent(userId, (id, userEmitters) -> {
+            userEmitters.remove(emitterId);
+            return userEmitters.isEmpty() ? null : userEmitters;
+        });
+    }
+}
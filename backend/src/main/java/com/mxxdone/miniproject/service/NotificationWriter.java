@@ -0,0 +1,248 @@
+package com.mxxdone.miniproject.service;
+
+import com.mxxdone.miniproject.dto.event.NotificationEvent;
+import com.mxxdone.miniproject.dto.notification.NotificationResponseDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림 일괄 저장
+ * 이벤트마다 트랜잭션을 열어 한 건씩 INSERT 하지 않고, 크기가 정해진 큐에 담아 두었다가
+ * 전용 스레드 하나가 모아서 JDBC 배치 INSERT로 저장한다.
+ * -> 댓글이 몰려도 알림 저장에 쓰이는 DB 커넥션은 하나
+ *
+ * - 첫 이벤트가 들어오면 app.notification.writer.flush-interval-ms 동안(또는 batch-size까지) 모아서 저장
+ * - 같은 수신자/URL/타입 알림이 coalesce-window-ms 안에 다시 오면 한 건만 저장 (중복 이벤트 합치기)
+ * - 큐가 가득 차면 새 이벤트는 버리고 notification.writer.dropped 로 집계 (댓글 저장은 막지 않음)
+ * - 저장 후 안 읽은 알림 수 증가, SSE 전파
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationWriter {
+
+    // 탈퇴한(soft delete 포함) 수신자의 알림은 저장하지 않음
+    private static final String INSERT_SQL =
+            "INSERT INTO notification (receiver_id, content, url, is_read, notification_type, created_at) " +
+                    "SELECT ?, ?, ?, false, ?, ? " +
+                    "WHERE EXISTS (SELECT 1 FROM users WHERE id = ? AND is_deleted = false)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final NotificationStreamService notificationStreamService;
+
+    @Value("${app.notification.writer.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${app.notification.writer.batch-size:200}")
+    private int batchSize;
+
+    @Value("${app.notification.writer.flush-interval-ms:500}")
+    private long flushIntervalMs;
+
+    @Value("${app.notification.writer.coalesce-window-ms:10000}")
+    private long coalesceWindowMs;
+
+    private BlockingQueue<NotificationEvent> queue;
+    // 최근 저장한 알림 키 -> 저장 시각 (writer 스레드에서만 사용)
+    private final Map<String, Long> recentKeys = new HashMap<>();
+    private Thread writerThread;
+    private volatile boolean running;
+
+    private Counter droppedCounter;
+    private Counter coalescedCounter;
+    private Counter writtenCounter;
+    private Counter failedCounter;
+
+    @PostConstruct
+    void init() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        Gauge.builder("notification.writer.queue.size", queue, Collection::size).register(meterRegistry);
+        droppedCounter = Counter.builder("notification.writer.dropped").register(meterRegistry);
+        coalescedCounter = Counter.builder("notification.writer.coalesced").register(meterRegistry);
+        writtenCounter = Counter.builder("notification.writer.written").register(meterRegistry);
+        failedCounter = Counter.builder("notification.writer.failed").register(meterRegistry);
+
+        running = true;
+        writerThread = Thread.ofPlatform().name("notification-writer").daemon().start(this::run);
+    }
+
+    // 종료 시 큐에 남은 알림까지 저장
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        writerThread.join(TimeUnit.SECONDS.toMillis(10));
+        if (!queue.isEmpty()) {
+            log.warn("종료 중 저장하지 못한 알림: {}건", queue.size());
+        }
+    }
+
+    // 큐에 넣기만 하고 바로 반환 (가득 차면 버림)
+    public void enqueue(NotificationEvent event) {
+        if (!queue.offer(event)) {
+            droppedCounter.increment();
+            log.warn("알림 큐가 가득 차 알림을 버립니다 (receiverId: {})", event.receiverId());
+        }
+    }
+
+    private void run() {
+        List<NotificationEvent> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                NotificationEvent first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                // 첫 이벤트 이후 잠시 더 모아서 한 번에 저장
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    NotificationEvent next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                write(batch);
+                return;
+            } catch (Exception e) {
+                // 스레드가 죽지 않도록 모든 예외를 잡음
+                log.error("알림 일괄 저장 실패", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<NotificationEvent> batch) {
+        List<NotificationEvent> events = coalesce(batch);
+        if (events.isEmpty()) {
+            return;
+        }
+        Instant now = Instant.now();
+        List<Written> written;
+        try {
+            written = insert(events, now);
+        } catch (Exception e) {
+            // 배치는 한 트랜잭션이라 전부 롤백됨 -> 문제 있는 한 건만 빼고 한 건씩 다시 저장
+            log.warn("알림 배치 저장 실패, 한 건씩 재시도 ({}건)", events.size(), e);
+            written = new ArrayList<>();
+            for (NotificationEvent event : events) {
+                try {
+                    written.addAll(insert(List.of(event), now));
+                } catch (Exception single) {
+                    failedCounter.increment();
+                    log.error("알림 저장 실패 (receiverId: {})", event.receiverId(), single);
+                }
+            }
+        }
+        writtenCounter.increment(written.size());
+        afterWrite(written, now);
+    }
+
+    // 배치 안 중복 + 최근 저장분과의 중복 제거
+    private List<NotificationEvent> coalesce(List<NotificationEvent> batch) {
+        long now = System.currentTimeMillis();
+        recentKeys.values().removeIf(savedAt -> now - savedAt > coalesceWindowMs);
+
+        List<NotificationEvent> events = new ArrayList<>(batch.size());
+        for (NotificationEvent event : batch) {
+            String key = event.receiverId() + "|" + event.notificationType() + "|" + event.url();
+            if (recentKeys.putIfAbsent(key, now) != null) {
+                coalescedCounter.increment();
+                continue;
+            }
+            events.add(event);
+        }
+        return events;
+    }
+
+    // 엔티티 대신 JDBC 배치 INSERT (IDENTITY 키 전략에서는 Hibernate 배치 INSERT가 동작하지 않음)
+    // 배치 전체를 한 트랜잭션으로 묶어, 중간에 실패하면 앞선 행도 남지 않게 함
+    private List<Written> insert(List<NotificationEvent> events, Instant createdAt) {
+        GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+        int[] counts = transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        NotificationEvent event = events.get(i);
+                        ps.setLong(1, event.receiverId());
+                        ps.setString(2, event.content());
+                        ps.setString(3, event.url());
+                        ps.setString(4, event.notificationType().name());
+                        ps.setTimestamp(5, Timestamp.from(createdAt));
+                        ps.setLong(6, event.receiverId());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return events.size();
+                    }
+                },
+                keyHolder
+        ));
+
+        // 탈퇴한 수신자 등으로 건너뛴 행(0건)은 제외
+        List<NotificationEvent> inserted = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            if (counts == null || counts[i] != 0) {
+                inserted.add(events.get(i));
+            }
+        }
+        List<Long> ids = keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+                .toList();
+        // 생성 키 수가 맞지 않으면 id 없이 저장 결과만 반환
+        boolean idsMatched = ids.size() == inserted.size();
+        List<Written> written = new ArrayList<>(inserted.size());
+        for (int i = 0; i < inserted.size(); i++) {
+            written.add(new Written(inserted.get(i), idsMatched ? ids.get(i) : null));
+        }
+        return written;
+    }
+
+    private void afterWrite(List<Written> written, Instant createdAt) {
+        Map<Long, Long> countByReceiver = new HashMap<>();
+        for (Written saved : written) {
+            NotificationEvent event = saved.event();
+            countByReceiver.merge(event.receiverId(), 1L, Long::sum);
+            // 생성 키를 못 받은 경우 SSE 전파만 생략 (클라이언트는 목록 조회로 받음)
+            if (saved.id() != null) {
+                notificationStreamService.publish(event.receiverId(), new NotificationResponseDto(
+                        saved.id(), event.content(), event.url(), false, event.notificationType().name(), createdAt));
+            }
+        }
+        countByReceiver.forEach(unreadNotificationCounter::increment);
+    }
+
+    // 저장된 알림과 생성된 id
+    private record Written(NotificationEvent event, Long id) {
+    }
+}
@@ -0,0 +1,137 @@
+package com.mxxdone.miniproject.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mxxdone.miniproject.config.cache.CacheInvalidationBus;
+import com.mxxdone.miniproject.dto.post.PostDetailQueryDto;
+import com.mxxdone.miniproject.util.AfterCommit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 상세 캐시
+ * 모든 사용자에게 같은 부분(제목, 본문, 카테고리 경로, 댓글 수 등)만 게시글 id 단위로 캐싱하고,
+ * 사용자별 좋아요 여부와 DB 미반영 조회수/좋아요 수는 요청마다 덧씌운다.
+ *
+ * 키 구조
+ * - posts::detail:{게시글 id} → PostDetailQueryDto JSON
+ *
+ * 게시글 수정/삭제, 댓글 작성/삭제, 좋아요/조회수 DB 반영 시 삭제된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostDetailCacheService {
+
+    private static final String KEY_PREFIX = "posts::detail:";
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    // 로컬(힙) 캐시 - 다른 인스턴스의 삭제는 CacheInvalidationBus로 전달받음
+    private static final String LOCAL_CACHE_NAME = "posts::detail";
+    private static final long LOCAL_MAXIMUM_SIZE = 1000;
+    private static final Duration LOCAL_TTL = Duration.ofSeconds(30);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final CacheInvalidationBus invalidationBus;
+
+    private final Cache<String, PostDetailQueryDto> localCache = Caffeine.newBuilder()
+            .maximumSize(LOCAL_MAXIMUM_SIZE)
+            .expireAfterWrite(LOCAL_TTL)
+            .build();
+
+    private Counter localHitCounter;
+    private Counter hitCounter;
+    private Counter missCounter;
+
+    @PostConstruct
+    void init() {
+        invalidationBus.register(LOCAL_CACHE_NAME, keys -> {
+            if (keys == null) {
+                localCache.invalidateAll();
+            } else {
+                localCache.invalidateAll(keys);
+            }
+        });
+
+        localHitCounter = Counter.builder("cache.posts.detail").tag("result", "local_hit").register(meterRegistry);
+        hitCounter = Counter.builder("cache.posts.detail").tag("result", "hit").register(meterRegistry);
+        missCounter = Counter.builder("cache.posts.detail").tag("result", "miss").register(meterRegistry);
+    }
+
+    // 캐시에서 상세 정보를 찾고, 없으면 loader로 조회 후 캐싱 (없는 게시글은 loader가 예외를 던짐)
+    public PostDetailQueryDto getOrLoad(Long postId, Supplier<PostDetailQueryDto> loader) {
+        String key = KEY_PREFIX + postId;
+
+        PostDetailQueryDto local = localCache.getIfPresent(key);
+        if (local != null) {
+            localHitCounter.increment();
+            return local;
+        }
+        PostDetailQueryDto cached = read(key);
+        if (cached != null) {
+            hitCounter.increment();
+            localCache.put(key, cached);
+            return cached;
+        }
+        missCounter.increment();
+
+        PostDetailQueryDto loaded = loader.get();
+        write(key, loaded);
+        return loaded;
+    }
+
+    public void evict(Long postId) {
+        evictAll(List.of(postId));
+    }
+
+    public void evictAll(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        List<String> keys = postIds.stream().map(id -> KEY_PREFIX + id).toList();
+        // 커밋 전에 지우면 다른 요청이 이전 데이터를 바로 다시 캐싱할 수 있으므로 커밋 후 삭제
+        AfterCommit.run(() -> {
+            try {
+                redisTemplate.delete(keys);
+            } catch (Exception e) {
+                log.error("상세 캐시 삭제 실패: {}", keys, e);
+            }
+            localCache.invalidateAll(keys);
+            invalidationBus.publish(LOCAL_CACHE_NAME, keys);
+        });
+    }
+
+    private PostDetailQueryDto read(String key) {
+        try {
+            String cachedData = redisTemplate.opsForValue().get(key);
+            if (cachedData != null) {
+                return objectMapper.readValue(cachedData, PostDetailQueryDto.class);
+            }
+        } catch (Exception e) {
+            log.error("캐시 불러오기 실패: {}", key, e);
+        }
+        return null;
+    }
+
+    private void write(String key, PostDetailQueryDto detail) {
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(detail), TTL);
+        } catch (Exception e) {
+            log.error("캐시 생성 실패: {}", key, e);
+        }
+        localCache.put(key, detail);
+    }
+}
@@ -0,0 +1,215 @@
+package com.mxxdone.miniproject.service;
+
+import com.mxxdone.miniproject.repository.PostLikeRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 좋아요 쓰기 지연(write-behind) 처리
+ * 토글은 Redis에서만 처리하고(게시글별 좋아요 사용자 Set), 변경 내역은 pending 해시에 모아
+ * 주기적으로 post_like / post.like_count에 일괄 반영한다.
+ * -> 인기 게시글에 좋아요가 몰려도 post 행 락을 기다리지 않음
+ *
+ * 키 구조
+ * - post:likes:{게시글 id}  → 좋아요 누른 사용자 id Set (+ 빈 Set 유지용 센티널 "0")
+ * - post:likes:pending      → {게시글 id:사용자 id: 최종 상태(1 좋아요 / 0 취소)} (여러 번 눌러도 마지막 상태만 남음)
+ * - post:likes:flushing     → DB 반영 중인 스냅샷
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostLikeService {
+
+    private static final String KEY_PREFIX = "post:likes:";
+    private static final String PENDING_KEY = "post:likes:pending";
+    private static final String FLUSHING_KEY = "post:likes:flushing";
+    private static final String FLUSH_LOCK_KEY = "post:likes:flush:lock";
+    private static final String SENTINEL = "0";
+    // 좋아요 Set 유지 시간 (토글할 때마다 연장, flush 주기보다 충분히 길게)
+    private static final Duration SET_TTL = Duration.ofDays(1);
+    private static final Duration FLUSH_LOCK_TTL = Duration.ofSeconds(30);
+
+    // 자신이 잡은 락만 해제 (TTL이 지나 다른 인스턴스가 잡은 락은 유지)
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    // Set이 없으면 -1 (DB에서 적재 필요), 있으면 토글 후 최종 상태 반환
+    private static final RedisScript<Long> TOGGLE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+              return -1
+            end
+            local liked = 1
+            if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then
+              redis.call('SREM', KEYS[1], ARGV[1])
+              liked = 0
+            else
+              redis.call('SADD', KEYS[1], ARGV[1])
+            end
+            redis.call('HSET', KEYS[2], ARGV[2], liked)
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            return liked
+            """, Long.class);
+
+    // 다른 요청이 먼저 적재했으면 덮어쓰지 않음
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+              return 0
+            end
+            redis.call('SADD', KEYS[1], unpack(ARGV, 2))
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final PostLikeRepository postLikeRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PostListCacheService postListCacheService;
+    private final PostDetailCacheService postDetailCacheService;
+    private final AdminSummaryCounterService adminSummaryCounterService;
+
+    /**
+     * 좋아요 토글
+     * @return 토글 후 좋아요 상태
+     */
+    public boolean toggle(Long postId, Long userId) {
+        String key = KEY_PREFIX + postId;
+        List<String> keys = List.of(key, PENDING_KEY);
+        Object[] args = {String.valueOf(userId), postId + ":" + userId, String.valueOf(SET_TTL.toSeconds())};
+
+        Long result = redisTemplate.execute(TOGGLE_SCRIPT, keys, args);
+        if (result != null && result == -1L) {
+            load(postId);
+            result = redisTemplate.execute(TOGGLE_SCRIPT, keys, args);
+        }
+        boolean liked = result != null && result == 1L;
+        // 일별 좋아요 추이용 증감 기록
+        adminSummaryCounterService.recordLike(liked);
+        return liked;
+    }
+
+    // 현재 사용자 좋아요 여부 (아직 DB에 반영 전인 토글도 반영)
+    public boolean isLiked(Long postId, Long userId) {
+        String key = KEY_PREFIX + postId;
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+                return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(key, String.valueOf(userId)));
+            }
+        } catch (Exception e) {
+            log.error("좋아요 여부 조회 실패 (Post ID: {})", postId, e);
+        }
+        // Set이 없으면 반영 대기 중인 토글도 없음 -> DB 값이 최신
+        return postLikeRepository.existsByPostIdAndUserId(postId, userId);
+    }
+
+    // 현재 좋아요 수 (Set이 있으면 Set 크기, 없으면 DB 값)
+    public int countOf(Long postId, int persistedCount) {
+        try {
+            Long size = redisTemplate.opsForSet().size(KEY_PREFIX + postId);
+            if (size != null && size > 0) {
+                return (int) (size - 1); // 센티널 제외
+            }
+        } catch (Exception e) {
+            log.error("좋아요 수 조회 실패 (Post ID: {})", postId, e);
+        }
+        return persistedCount;
+    }
+
+    private void load(Long postId) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(SET_TTL.toSeconds()));
+        args.add(SENTINEL);
+        postLikeRepository.findUserIdsByPostId(postId).forEach(id -> args.add(String.valueOf(id)));
+        redisTemplate.execute(LOAD_SCRIPT, List.of(KEY_PREFIX + postId), args.toArray());
+    }
+
+    @Scheduled(fixedDelayString = "${app.like.flush-interval-ms:5000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    // 종료 직전 남은 토글 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 모인 토글을 DB에 일괄 반영
+     * post_like는 최종 상태에 맞춰 INSERT/DELETE 하고, like_count는 실제 행 수로 다시 계산한다.
+     * (증감 대신 재계산 -> 같은 스냅샷을 두 번 반영해도 결과가 같음)
+     */
+    public void flush() {
+        try {
+            String token = UUID.randomUUID().toString();
+            Boolean locked = redisTemplate.opsForValue().setIfAbsent(FLUSH_LOCK_KEY, token, FLUSH_LOCK_TTL);
+            if (!Boolean.TRUE.equals(locked)) {
+                return;
+            }
+            try {
+                // 이전 flush가 실패해서 남은 스냅샷이 있으면 그것부터 반영
+                if (!Boolean.TRUE.equals(redisTemplate.hasKey(FLUSHING_KEY))) {
+                    if (!Boolean.TRUE.equals(redisTemplate.hasKey(PENDING_KEY))) {
+                        return;
+                    }
+                    redisTemplate.rename(PENDING_KEY, FLUSHING_KEY);
+                }
+
+                Map<Object, Object> entries = redisTemplate.opsForHash().entries(FLUSHING_KEY);
+                List<Object[]> inserts = new ArrayList<>();
+                List<Object[]> deletes = new ArrayList<>();
+                Set<Long> postIds = new TreeSet<>();
+                entries.forEach((field, state) -> {
+                    String[] ids = field.toString().split(":");
+                    Long postId = Long.parseLong(ids[0]);
+                    Long userId = Long.parseLong(ids[1]);
+                    postIds.add(postId);
+                    if ("1".equals(state.toString())) {
+                        inserts.add(new Object[]{userId, postId, userId, postId, userId});
+                    } else {
+                        deletes.add(new Object[]{userId, postId});
+                    }
+                });
+
+                transactionTemplate.executeWithoutResult(status -> {
+                    // 탈퇴한 사용자(soft delete 포함)/이미 있는 좋아요는 건너뜀
+                    jdbcTemplate.batchUpdate("INSERT INTO post_like (user_id, post_id) " +
+                            "SELECT ?, ? WHERE NOT EXISTS (SELECT 1 FROM post_like WHERE user_id = ? AND post_id = ?) " +
+                            "AND EXISTS (SELECT 1 FROM users WHERE id = ? AND is_deleted = false)", inserts);
+                    jdbcTemplate.batchUpdate("DELETE FROM post_like WHERE user_id = ? AND post_id = ?", deletes);
+                    jdbcTemplate.batchUpdate("UPDATE post SET like_count = " +
+                                    "(SELECT COUNT(*) FROM post_like WHERE post_id = ?) WHERE id = ?",
+                            postIds.stream().map(id -> new Object[]{id, id}).toList());
+                });
+                redisTemplate.delete(FLUSHING_KEY);
+
+                // 좋아요 수가 바뀐 게시글의 상세 캐시와, 게시글이 포함된 목록 캐시 삭제
+                postDetailCacheService.evictAll(postIds);
+                postIds.forEach(postListCacheService::evictPost);
+                if (!postIds.isEmpty()) {
+                    log.debug("좋아요 반영 완료: 토글 {}건, 게시글 {}건", entries.size(), postIds.size());
+                }
+            } finally {
+                redisTemplate.execute(UNLOCK_SCRIPT, List.of(FLUSH_LOCK_KEY), token);
+            }
+        } catch (Exception e) {
+            // flushing 스냅샷은 남겨두고 다음 주기에 다시 시도
+            log.error("좋아요 일괄 반영 실패", e);
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.mxxdone.miniproject.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mxxdone.miniproject.config.cache.CacheInvalidationBus;
+import com.mxxdone.miniproject.dto.PageDto;
+import com.mxxdone.miniproject.dto.post.PostSummaryResponseDto;
+import com.mxxdone.miniproject.repository.PostRepository;
+import com.mxxdone.miniproject.util.AfterCommit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 목록 캐시
+ * (카테고리, 페이지, 크기, 정렬) 조합마다 한 개의 키로 캐싱하고,
+ * 각 키를 카테고리 태그와 게시글 태그(Redis Set)에 등록해 두었다가
+ * 쓰기 발생 시 영향받는 태그의 키만 골라서 삭제한다.
+ *
+ * 키 구조
+ * - posts::list:c{카테고리 id | all}:p{페이지}:s{크기}:{정렬}  → PageDto JSON
+ * - posts::tag:category:{카테고리 id | all}                  → 해당 카테고리 목록 키 Set
+ * - posts::tag:post:{게시글 id}                              → 해당 게시글이 포함된 목록 키 Set
+ *
+ * Redis 앞에 짧은 TTL의 로컬 캐시를 두고, 삭제된 키는 CacheInvalidationBus로 다른 인스턴스에 알린다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostListCacheService {
+
+    private static final String KEY_PREFIX = "posts::list:";
+    private static final String CATEGORY_TAG_PREFIX = "posts::tag:category:";
+    private static final String POST_TAG_PREFIX = "posts::tag:post:";
+    private static final String LOCK_SUFFIX = ":lock";
+    private static final String ALL = "all";
+
+    // 캐시 유지 시간 (만료 시점이 한꺼번에 몰리지 않도록 최대 30초 랜덤 추가)
+    private static final Duration TTL = Duration.ofMinutes(5);
+    private static final long TTL_JITTER_SECONDS = 30;
+    // 태그 Set은 가리키는 캐시 키보다 조금 더 오래 유지
+    private static final Duration TAG_TTL = TTL.plusMinutes(1);
+
+    // 캐시 재생성 락 (한 번에 한 요청만 DB 조회)
+    private static final Duration LOCK_TTL = Duration.ofSeconds(3);
+    private static final int LOCK_WAIT_RETRIES = 10;
+    private static final long LOCK_WAIT_MILLIS = 50;
+
+    // 로컬(힙) 캐시 - 가장 자주 읽히는 목록은 Redis 왕복/역직렬화 없이 반환
+    private static final String LOCAL_CACHE_NAME = "posts::list";
+    private static final long LOCAL_MAXIMUM_SIZE = 1000;
+    private static final Duration LOCAL_TTL = Duration.ofSeconds(30);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final CacheInvalidationBus invalidationBus;
+    private final ContentVersionService contentVersionService;
+    private final PostRepository postRepository;
+    private final CategoryIndex categoryIndex;
+
+    private final Cache<String, PageDto<PostSummaryResponseDto>> localCache = Caffeine.newBuilder()
+            .maximumSize(LOCAL_MAXIMUM_SIZE)
+            .expireAfterWrite(LOCAL_TTL)
+            .build();
+
+    private Counter localHitCounter;
+    private Counter hitCounter;
+    private Counter missCounter;
+    private Counter evictionCounter;
+
+    @PostConstruct
+    void init() {
+        // 다른 인스턴스에서 삭제한 목록 키를 로컬 캐시에서도 제거
+        invalidationBus.register(LOCAL_CACHE_NAME, keys -> {
+            if (keys == null) {
+                localCache.invalidateAll();
+            } else {
+                localCache.invalidateAll(keys);
+            }
+        });
+
+        localHitCounter = Counter.builder("cache.posts.list").tag("result", "local_hit").register(meterRegistry);
+        hitCounter = Counter.builder("cache.posts.list").tag("result", "hit").register(meterRegistry);
+        missCounter = Counter.builder("cache.posts.list").tag("result", "miss").register(meterRegistry);
+        evictionCounter = Counter.builder("cache.posts.list.evictions").register(meterRegistry);
+    }
+
+    public String keyOf(Long categoryId, Pageable pageable) {
+        String sort = pageable.getSort().isSorted()
+                ? pageable.getSort().toString().replace(" ", "")
+                : "unsorted";
+        return KEY_PREFIX + "c" + categoryTag(categoryId)
+                + ":p" + pageable.getPageNumber()
+                + ":s" + pageable.getPageSize()
+                + ":" + sort;
+    }
+
+    /**
+     * 캐시에서 목록을 찾고, 없으면 loader로 조회 후 캐싱
+     * 동시에 여러 요청이 같은 키를 놓치면 락을 잡은 한 요청만 DB를 조회하고
+     * 나머지는 잠시 기다렸다가 채워진 캐시를 읽는다. (캐시 스탬피드 방지)
+     */
+    public PageDto<PostSummaryResponseDto> getOrLoad(String key, Long categoryId, Supplier<PageDto<PostSummaryResponseDto>> loader) {
+        PageDto<PostSummaryResponseDto> local = localCache.getIfPresent(key);
+        if (local != null) {
+            localHitCounter.increment();
+            return local;
+        }
+        PageDto<PostSummaryResponseDto> cached = read(key);
+        if (cached != null) {
+            hitCounter.increment();
+            localCache.put(key, cached);
+            return cached;
+        }
+        missCounter.increment();
+
+        String lockKey = key + LOCK_SUFFIX;
+        if (tryLock(lockKey)) {
+            try {
+                PageDto<PostSummaryResponseDto> loaded = loader.get();
+                write(key, categoryId, loaded);
+                return loaded;
+            } finally {
+                unlock(lockKey);
+            }
+        }
+
+        // 다른 요청이 캐시를 만드는 중 -> 잠시 대기 후 재조회
+        for (int i = 0; i < LOCK_WAIT_RETRIES; i++) {
+            try {
+                Thread.sleep(LOCK_WAIT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            cached = read(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        // 기다려도 채워지지 않으면 캐싱 없이 직접 조회
+        return loader.get();
+    }
+
+    // 카테고리(및 전체 목록)에 속한 목록 캐시 삭제 - 게시글 작성/삭제/카테고리 이동 시
+    public void evictCategories(Collection<Long> categoryIds) {
+        List<String> tags = new ArrayList<>();
+        tags.add(CATEGORY_TAG_PREFIX + ALL);
+        categoryIds.forEach(id -> tags.add(CATEGORY_TAG_PREFIX + id));
+        // 목록 ETag 버전 증가 (삭제할 캐시 키가 없어도 목록 내용은 바뀌었을 수 있음)
+        // (자체적으로 커밋 후 증가하므로 삭제 콜백 밖에서 호출 - 커밋 후 콜백 안에서 등록하면 실행되지 않음)
+        contentVersionService.bumpPosts(categoryIds);
+        evictTags(tags);
+    }
+
+    // 특정 게시글이 포함된 목록 캐시 삭제 - 게시글 수정, 좋아요, 댓글 변경 시
+    // 게시글이 보이는 목록은 자신의 카테고리 경로와 전체 목록뿐이므로 그 버전만 증가
+    public void evictPost(Long postId) {
+        List<Long> categoryPathIds = postRepository.findCategoryIdById(postId)
+                .flatMap(categoryIndex::find)
+                .map(CategoryIndex.CategoryNode::pathIds)
+                .orElse(List.of());
+        contentVersionService.bumpPosts(categoryPathIds);
+        evictTags(List.of(POST_TAG_PREFIX + postId));
+    }
+
+    private void evictTags(List<String> tags) {
+        // 커밋 전에 지우면 다른 요청이 이전 데이터를 바로 다시 캐싱할 수 있으므로 커밋 후 삭제
+        AfterCommit.run(() -> {
+            try {
+                Set<String> keys = redisTemplate.opsForSet().union(tags);
+                List<String> toDelete = new ArrayList<>(tags);
+                if (keys != null) {
+                    toDelete.addAll(keys);
+                    evictionCounter.increment(keys.size());
+                }
+                redisTemplate.delete(toDelete);
+
+                // 로컬 캐시에서도 제거하고 다른 인스턴스에 전파
+                if (keys != null && !keys.isEmpty()) {
+                    localCache.invalidateAll(keys);
+                    invalidationBus.publish(LOCAL_CACHE_NAME, keys);
+                }
+            } catch (Exception e) {
+                log.error("목록 캐시 삭제 실패: tags={}", tags, e);
+            }
+        });
+    }
+
+    private PageDto<PostSummaryResponseDto> read(String key) {
+        try {
+            String cachedData = redisTemplate.opsForValue().get(key);
+            if (cachedData != null) {
+                return objectMapper.readValue(cachedData, new TypeReference<>() {
+                });
+            }
+        } catch (Exception e) {
+            log.error("캐시 불러오기 실패: {}", key, e);
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void write(String key, Long categoryId, PageDto<PostSummaryResponseDto> page) {
+        try {
+            String json = objectMapper.writeValueAsString(page);
+            Duration ttl = TTL.plusSeconds(ThreadLocalRandom.current().nextLong(TTL_JITTER_SECONDS + 1));
+
+            List<String> tags = new ArrayList<>();
+            tags.add(CATEGORY_TAG_PREFIX + categoryTag(categoryId));
+            page.content().forEach(post -> tags.add(POST_TAG_PREFIX + post.id()));
+
+            // 값 저장 + 태그 등록을 파이프라인으로 한 번에 전송
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    ops.opsForValue().set(key, json, ttl);
+                    for (String tag : tags) {
+                        ops.opsForSet().add(tag, key);
+                        ops.expire(tag, TAG_TTL);
+                    }
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.error("캐시 생성 실패: {}", key, e);
+        }
+        localCache.put(key, page);
+    }
+
+    private boolean tryLock(String lockKey) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey, "1", LOCK_TTL));
+        } catch (Exception e) {
+            // Redis 장애 시 락 없이 진행
+            log.error("캐시 락 획득 실패: {}", lockKey, e);
+            return true;
+        }
+    }
+
+    private void unlock(String lockKey) {
+        try {
+            redisTemplate.delete(lockKey);
+        } catch (Exception e) {
+            log.error("캐시 락 해제 실패: {}", lockKey, e);
+        }
+    }
+
+    private String categoryTag(Long categoryId) {
+        return categoryId != null ? String.valueOf(categoryId) : ALL;
+    }
+}
@@ -0,0 +1,106 @@
+package com.mxxdone.miniproject.service;
+
+import com.mxxdone.miniproject.domain.Post;
+import com.mxxdone.miniproject.repository.PostSearchRepository;
+import com.mxxdone.miniproject.util.BigramTokenizer;
+import com.mxxdone.miniproject.util.ExcerptExtractor;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 게시글 전문 검색(Full-Text Search)
+ * 게시글 저장/수정/삭제 시 색인을 함께 갱신하고, 검색 시 관련도 순으로 게시글 id를 반환한다.
+ * PostgreSQL이 아닌 환경에서는 비활성화되어 기존 LIKE 검색을 사용한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class PostSearchService {
+
+    private final PostSearchRepository postSearchRepository;
+
+    private volatile boolean enabled;
+
+    @PostConstruct
+    void init() {
+        try {
+            enabled = postSearchRepository.initialize();
+        } catch (Exception e) {
+            log.error("검색 색인 초기화 실패, LIKE 검색으로 대체합니다.", e);
+            enabled = false;
+        }
+        log.info("게시글 전문 검색 사용 여부: {}", enabled);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 색인 검색 가능 여부 (검색 엔진 사용 가능 + 바이그램을 만들 수 있는 검색어)
+    public boolean supports(String keyword) {
+        return enabled && keyword != null && !BigramTokenizer.toQueryText(keyword).isEmpty();
+    }
+
+    // 게시글 색인 추가/갱신 (게시글 저장과 같은 트랜잭션)
+    public void index(Post post) {
+        if (!enabled) {
+            return;
+        }
+        postSearchRepository.upsert(
+                post.getId(),
+                BigramTokenizer.toIndexText(post.getTitle()),
+                BigramTokenizer.toIndexText(ExcerptExtractor.plainText(post.getContent()))
+        );
+    }
+
+    public void remove(Long postId) {
+        if (!enabled) {
+            return;
+        }
+        postSearchRepository.delete(postId);
+    }
+
+    // 관련도 순 검색 (offset 페이징)
+    @Transactional(readOnly = true)
+    public Page<Long> search(List<Long> categoryIds, String searchType, String keyword, Pageable pageable) {
+        String query = BigramTokenizer.toQueryText(keyword);
+        List<Long> ids = postSearchRepository.searchRanked(categoryIds, searchType, query, pageable.getOffset(), pageable.getPageSize());
+        return PageableExecutionUtils.getPage(ids, pageable, () -> postSearchRepository.count(categoryIds, searchType, query));
+    }
+
+    // 커서 기반 검색 (id 역순, count 없음)
+    @Transactional(readOnly = true)
+    public List<Long> searchBefore(List<Long> categoryIds, String searchType, String keyword, Long cursorId, int limit) {
+        return postSearchRepository.searchBefore(categoryIds, searchType, BigramTokenizer.toQueryText(keyword), cursorId, limit);
+    }
+
+    // 색인되지 않은 게시글을 batchSize만큼 색인, 처리한 건수 반환
+    public int indexMissing(int batchSize) {
+        if (!enabled) {
+            return 0;
+        }
+        List<PostSearchRepository.UnindexedPost> posts = postSearchRepository.findUnindexedPosts(batchSize);
+        if (posts.isEmpty()) {
+            return 0;
+        }
+        List<SqlParameterSource> batch = posts.stream()
+                .map(p -> (SqlParameterSource) new MapSqlParameterSource()
+                        .addValue("postId", p.id())
+                        .addValue("titleTokens", BigramTokenizer.toIndexText(p.title()))
+                        .addValue("contentTokens", BigramTokenizer.toIndexText(ExcerptExtractor.plainText(p.content()))))
+                .toList();
+        postSearchRepository.upsertAll(batch);
+        return posts.size();
+    }
+}
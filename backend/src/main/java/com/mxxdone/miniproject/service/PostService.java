@@ -1,27 +1,34 @@
 package com.mxxdone.miniproject.service;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mxxdone.miniproject.config.security.PrincipalDetails;
 import com.mxxdone.miniproject.domain.*;
+import com.mxxdone.miniproject.dto.CursorPageDto;
 import com.mxxdone.miniproject.dto.PageDto;
 import com.mxxdone.miniproject.dto.category.CategoryDto;
+import com.mxxdone.miniproject.dto.event.AdminStatsEvent;
 import com.mxxdone.miniproject.dto.post.*;
 import com.mxxdone.miniproject.repository.*;
+import com.mxxdone.miniproject.service.view.ViewDeduplicator;
+import com.mxxdone.miniproject.util.ConditionalResponse;
+import com.mxxdone.miniproject.util.ExcerptExtractor;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
 
 @Slf4j
@@ -32,14 +39,24 @@ public class PostService {
 
     private final PostRepository postRepository;
     private final CategoryRepository categoryRepository;
-    private final UserRepository userRepository;
+    private final CategoryIndex categoryIndex;
     private final CommentRepository commentRepository;
-    private final PostLikeRepository postLikeRepository;
-    private final RedisTemplate<String, String> redisTemplate;
-    private final ObjectMapper objectMapper;
     private final ContentImageService contentImageService;
     private final ThumbnailService thumbnailService;
     private final S3Uploader s3Uploader;
+    private final PostSearchService postSearchService;
+    private final PostListCacheService postListCacheService;
+    private final PostDetailCacheService postDetailCacheService;
+    private final ContentVersionService contentVersionService;
+    private final CacheManager cacheManager;
+    private final ViewCountService viewCountService;
+    private final ViewDeduplicator viewDeduplicator;
+    private final PostLikeService postLikeService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final String CATEGORIES_CACHE = "categories";
+    private static final int MIN_CURSOR_SIZE = 1;
+    private static final int MAX_CURSOR_SIZE = 50;
 
     /**
      * 게시글 수정/삭제 권한 체크
@@ -59,12 +76,9 @@ public class PostService {
     // 게시글 저장
     @CacheEvict(value = "categories", allEntries = true)
     public PostSaveResponseDto save(PostSaveRequestDto requestDto, PrincipalDetails principalDetails) {
-        Category category = categoryRepository.findById(requestDto.categoryId())
+        CategoryIndex.CategoryNode categoryNode = categoryIndex.find(requestDto.categoryId())
                 .orElseThrow(() -> new NoSuchElementException("해당 카테고리가 없습니다. id= " + requestDto.categoryId()));
-
-        if (!category.getChildren().isEmpty()) {
-            throw new IllegalArgumentException("하위 카테고리에만 게시글을 작성할 수 있습니다.");
-        }
+        Category category = findLeafCategory(categoryNode);
 
         // 임시 이미지 → 정식 경로 이동 + HTML URL 교체
         String finalHtml = contentImageService.processTempImages(requestDto.content());
@@ -76,6 +90,7 @@ public class PostService {
         Post post = Post.builder()
                 .title(requestDto.title())
                 .content(finalHtml)
+                .excerpt(ExcerptExtractor.extract(finalHtml))
                 .thumbnailUrl(thumbnailUrl)
                 .category(category)
                 .userId(principalDetails.getId())
@@ -84,14 +99,18 @@ public class PostService {
                 .build();
 
         Post savedPost = postRepository.save(post);
-
-        try {
-            // 새로운 글이 작성되었으면 1페이지 캐시 삭제
-            redisTemplate.delete("posts::page_1");
-        } catch (Exception e) {
-            log.error("캐시 삭제 실패: posts::page_1", e);
-        }
-        return PostSaveResponseDto.from(savedPost);
+        postSearchService.index(savedPost);
+        eventPublisher.publishEvent(AdminStatsEvent.created(AdminStatsEvent.Metric.POSTS, savedPost.getCreatedAt()));
+
+        // 새로운 글이 작성된 카테고리(+상위 카테고리, 전체) 목록 캐시 삭제
+        postListCacheService.evictCategories(categoryNode.pathIds());
+        // 카테고리별 게시글 수가 바뀜
+        contentVersionService.bumpCategories();
+        // 리다이렉트용 slug도 인덱스에서 (카테고리 프록시 초기화 X)
+        String parentSlug = categoryIndex.find(categoryNode.parentId())
+                .map(CategoryIndex.CategoryNode::slug)
+                .orElse(null);
+        return new PostSaveResponseDto(savedPost.getId(), parentSlug, categoryNode.slug());
     }
 
     //게시글 수정
@@ -110,12 +129,8 @@ public class PostService {
         // 수정 사항 있을 시
         Category category = null;
         if (requestDto.categoryId() != null) {
-            category = categoryRepository.findById(requestDto.categoryId())
-                    .orElseThrow(() -> new NoSuchElementException("해당 카테고리가 없습니다. id= " + requestDto.categoryId()));
-            // 하위 카테고리만 글 작성 가능
-            if (!category.getChildren().isEmpty()) {
-                throw new IllegalArgumentException("하위 카테고리에만 게시글을 작성할 수 있습니다.");
-            }
+            category = findLeafCategory(categoryIndex.find(requestDto.categoryId())
+                    .orElseThrow(() -> new NoSuchElementException("해당 카테고리가 없습니다. id= " + requestDto.categoryId())));
         }
 
         // temp → 정식 경로 이동 + HTML 교체
@@ -127,9 +142,20 @@ public class PostService {
         }
         // 새 썸네일 생성
         String newThumbnailUrl = thumbnailService.createThumbnail(finalHtml);
+        // 이동 전 카테고리 경로 (이전 카테고리 목록에서도 빠져야 함)
+        List<Long> oldCategoryPathIds = post.getCategory() != null ? categoryPathIds(post.getCategory()) : List.of();
         // 게시글 업데이트
-        post.update(requestDto.title(), finalHtml, category, newThumbnailUrl);
-        // 실제 변경이 일어난 시점에만 캐시 삭제
+        post.update(requestDto.title(), finalHtml, ExcerptExtractor.extract(finalHtml), category, newThumbnailUrl);
+        postSearchService.index(post);
+        // 실제 변경이 일어난 시점에만 캐시 삭제 (커밋 후)
+        // 게시글이 포함된 목록 + 카테고리가 바뀌었으면 이전/새 카테고리 목록
+        postDetailCacheService.evict(id);
+        postListCacheService.evictPost(id);
+        if (category != null) {
+            Set<Long> categoryIds = new LinkedHashSet<>(oldCategoryPathIds);
+            categoryIds.addAll(categoryPathIds(category));
+            postListCacheService.evictCategories(categoryIds);
+        }
         evictCache();
 
         return id;
@@ -137,18 +163,15 @@ public class PostService {
 
     public void evictCache() {
         try {
-            // 기존 게시글 목록 캐시 삭제
-            redisTemplate.delete("posts::page_1");
-
-            // @CacheEvict 제거 후 대체 로직 추가
-            // categories와 관련된 모든 키 삭제 OR 특정 키만 골라서 삭제
-            Set<String> keys = redisTemplate.keys("categories*");
-            if (keys != null && !keys.isEmpty()) {
-                redisTemplate.delete(keys);
+            // @CacheEvict(allEntries = true)와 같은 경로 - 키 스캔 없이 캐시 세대만 증가
+            Cache categories = cacheManager.getCache(CATEGORIES_CACHE);
+            if (categories != null) {
+                categories.clear();
             }
         } catch (Exception e) {
             log.error("캐시 삭제 중 오류 발생", e);
         }
+        contentVersionService.bumpCategories();
     }
 
     //게시글 삭제
@@ -160,32 +183,29 @@ public class PostService {
         validatePostPermission(post, principalDetails);
 
         commentRepository.softDeleteByPostId(id);
+        postRepository.resetCommentCount(id);
+        contentVersionService.bumpComments(id);
 
         postRepository.delete(post);
+        postSearchService.remove(id);
+        // 게시글과 함께 댓글도 한꺼번에 삭제되므로 요약 카운터는 재집계
+        eventPublisher.publishEvent(AdminStatsEvent.recount());
 
-        try {
-            redisTemplate.delete("posts::page_1");
-        } catch (Exception e) {
-            log.error("캐시 삭제 실패: posts::page_1", e);
-        }
+        postDetailCacheService.evict(id);
+        postListCacheService.evictCategories(categoryPathIds(post.getCategory()));
+        contentVersionService.bumpCategories();
     }
 
     // 게시글 조회수 증가 (ip 기준 중복 방지)
     public void incrementViewCount(Long id, HttpServletRequest request) {
         String ip = request.getRemoteAddr();
-        String redisKey = "post:view:" + id + ":" + ip;
 
         try {
-            // Redis에 해당 ip로 조회한 기록이 있는지 확인
-            if (!redisTemplate.hasKey(redisKey)) {
-                // 기록이 없으면 24시간 동안 유효한 키를 redis에 저장
-                redisTemplate.opsForValue().set(redisKey, "1", Duration.ofHours(24));
-
-                int updatedRows = postRepository.incrementViewCount(id);
-
-                if (updatedRows == 0) {
-                    throw new NoSuchElementException("해당 게시글이 없습니다.");
-                }
+            // 중복 방지 엔진이 판단한 만큼만 조회수 증가 (확인 + 기록은 원자적으로 처리)
+            long views = viewDeduplicator.markViewed(id, ip);
+            if (views > 0) {
+                // DB에는 바로 쓰지 않고 Redis에 누적 -> ViewCountService가 주기적으로 일괄 반영
+                viewCountService.increment(id, views);
             }
         } catch (Exception e) {
             log.error("Redis 조회수 중복 방지 로직 실패 (Post ID: {}, IP: {})", id, ip, e);
@@ -193,137 +213,200 @@ public class PostService {
     }
 
     //게시글 단건 조회
-    //밖으로 나가는 데이터는 DTO로 변환하여 엔티티를 보호
+    // ETag와 본문이 같은 값으로 만들어지도록 상세 상태를 한 번만 조회해서 반환 (본문 DTO는 200일 때만 생성)
     @Transactional(readOnly = true) //조회 기능은 readOnly = true 옵션으로 성능 최적화
-    public PostDetailResponseDto findById(Long id) {
-        // Post 엔티티 조회
-        Post post = postRepository.findById(id)
-                .orElseThrow(() -> new NoSuchElementException("해당 게시글이 없습니다. id= " + id));
-
-        // 카테고리 경로 계산
-        List<CategoryDto> categoryPath = calculateCategoryPath(post);
+    public DetailState findDetail(Long id) {
+        return loadDetailState(id);
+    }
 
-        // 현재 사용자의 게시글 좋아요 여부 계산
-        boolean isLiked = checkLikedByCurrnetUser(post);
+    // slug 경로로 게시글 단건 조회 (프론트 라우트 /{parentSlug}/{childSlug}/posts/{id})
+    // 카테고리는 인덱스에서 찾고, 게시글이 그 카테고리(또는 하위)에 없으면 다른 경로로 보지 않도록 404
+    @Transactional(readOnly = true)
+    public DetailState findDetailBySlugPath(String slugPath, Long id) {
+        Long categoryId = categoryIndex.findIdBySlugPath(slugPath)
+                .orElseThrow(() -> new NoSuchElementException("해당 카테고리를 찾을 수 없습니다. slug=" + slugPath));
+        DetailState state = loadDetailState(id);
+        if (!categoryIndex.get(categoryId).descendantIdsAndSelf().contains(state.detail().categoryId())) {
+            throw new NoSuchElementException("해당 카테고리에 게시글이 없습니다. slug=" + slugPath + ", id=" + id);
+        }
+        return state;
+    }
 
-        // 댓글 수 계산
-        long commentCount = commentRepository.countByPostAndIsDeletedFalse(post);
+    // 게시글 목록 응답의 ETag (카테고리별 버전 -> 다른 카테고리의 쓰기로는 바뀌지 않음)
+    public String findListETag(Long categoryId) {
+        return ConditionalResponse.eTagOf("posts-c" + (categoryId != null ? categoryId : "all"),
+                contentVersionService.postsVersion(categoryId));
+    }
 
-        return PostDetailResponseDto.from(post, categoryPath, isLiked, commentCount);
+    // slug 경로 목록의 ETag (없는 카테고리면 null -> 본문 조회에서 404)
+    public String findListETagBySlugPath(String slugPath) {
+        return categoryIndex.findIdBySlugPath(slugPath)
+                .map(this::findListETag)
+                .orElse(null);
     }
 
-    // 현재 로그인 사용자가 해당 게시글에 좋아요 눌렀는지 확인
-    private boolean checkLikedByCurrnetUser(Post post) {
-        // SecurityContext에서 현재 인증 정보 확인
-        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+    // 캐시된 공통 상세 + 요청마다 계산하는 사용자별/미반영 값
+    // categoryPath는 캐시에 넣지 않고 인덱스에서 매번 계산 (카테고리 이름 변경이 바로 반영되도록)
+    public record DetailState(PostDetailQueryDto detail, List<CategoryDto> categoryPath,
+                              boolean isLiked, int viewCount, int likeCount) {
+
+        // 응답에 들어가는 값이 하나라도 바뀌면 ETag도 바뀌도록 수정 시각, 카테고리 경로, 카운트, 좋아요 여부를 모두 포함
+        public String eTag() {
+            long updatedAt = detail.updatedAt() != null ? detail.updatedAt().toEpochMilli() : 0L;
+            return "p" + detail.id() + "-" + updatedAt
+                    + "-k" + Integer.toHexString(categoryPath.hashCode())
+                    + "-v" + viewCount
+                    + "-l" + likeCount
+                    + "-c" + detail.commentCount()
+                    + (isLiked ? "-liked" : "");
+        }
 
-        // principal이 UserDetails의 인스턴스인지 확인 (로그인 상태)
-        if (principal instanceof UserDetails userDetails) {
-            String username = userDetails.getUsername();
-            // DB에서 사용자 조회
-            User user = userRepository.findByUsername(username).orElse(null);
+        // 본문 마지막 수정 시각 (HTTP 날짜는 초 단위이므로 밀리초는 버림)
+        public Instant lastModified() {
+            Instant modified = detail.updatedAt() != null ? detail.updatedAt() : detail.createdAt();
+            return modified != null ? modified.truncatedTo(ChronoUnit.SECONDS) : null;
+        }
 
-            if (user != null) {
-                // 사용자, 게시글을 가지고 좋아요 여부 체크
-                return postLikeRepository.existsByUserAndPost(user, post);
-            }
+        //밖으로 나가는 데이터는 DTO로 변환하여 엔티티를 보호
+        public PostDetailResponseDto toResponse() {
+            return PostDetailResponseDto.from(detail, categoryPath, isLiked).withCounts(viewCount, likeCount);
         }
-        // 로그인X, 사용자를 찾을 수 없으면 false
-        return false;
     }
 
-    // Post 엔티티의 카테고리 정보를 바탕으로 상위 카테고리까지의 경로를 계산
-    private List<CategoryDto> calculateCategoryPath(Post post) {
-        List<CategoryDto> categoryPath = new ArrayList<>();
-        if (post.getCategory() != null) {
-            Category currentCategory = post.getCategory();
-            while (currentCategory != null) {
-                categoryPath.add(CategoryDto.from(currentCategory));
-                currentCategory = currentCategory.getParent();
-            }
-            Collections.reverse(categoryPath); // 상위 -> 하위 카테고리 순서 변경
-        }
-        return categoryPath;
+    private DetailState loadDetailState(Long id) {
+        // 토큰의 사용자 id 사용 (사용자 재조회 X)
+        Long userId = currentUserId();
+
+        // 사용자와 무관한 부분(게시글 + 카테고리 경로 + 댓글 수)은 캐시에서, 없으면 한 번의 쿼리로 조회
+        PostDetailQueryDto detail = postDetailCacheService.getOrLoad(id, () -> postRepository.findPostDetail(id)
+                .orElseThrow(() -> new NoSuchElementException("해당 게시글이 없습니다. id= " + id)));
+
+        // 사용자별 좋아요 여부와 아직 DB에 반영되지 않은 좋아요/조회수는 요청마다 반영
+        boolean isLiked = userId != null && postLikeService.isLiked(id, userId);
+        int likeCount = postLikeService.countOf(id, detail.likeCount());
+        long pendingViews = viewCountService.pendingOf(id);
+        return new DetailState(detail, categoryPath(detail.categoryId()),
+                isLiked, detail.viewCount() + (int) pendingViews, likeCount);
+    }
+
+    // 카테고리 경로 (최상위 -> 현재), 깊이와 상관없이 인덱스의 pathIds로 계산 (카테고리 조회 쿼리 X)
+    private List<CategoryDto> categoryPath(Long categoryId) {
+        return categoryIndex.find(categoryId)
+                .map(node -> node.pathIds().reversed().stream()
+                        .map(categoryIndex::get)
+                        .map(ancestor -> new CategoryDto(ancestor.id(), ancestor.name()))
+                        .toList())
+                .orElse(List.of());
     }
 
+    // 현재 로그인 사용자 id (비로그인이면 null)
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof PrincipalDetails principalDetails) {
+            return principalDetails.getId();
+        }
+        return null;
+    }
 
     // 게시글 목록 조회
     @Transactional(readOnly = true)
     public PageDto<PostSummaryResponseDto> findPosts(Long categoryId, String searchType, String keyword, Pageable pageable) {
 
-        // 1페이지 목록에만 캐싱 적용
-        boolean isCachable = pageable.getPageNumber() == 0 && categoryId == null && (keyword == null || keyword.isEmpty());
-        final String cacheKey = "posts::page_1";
-
-        if (isCachable) {
-            try {
-                // Redis에서 데이터 찾기
-                String cachedData = redisTemplate.opsForValue().get(cacheKey);
-
-                // 캐시에 데이터가 있으면
-                if (cachedData != null) {
-                    // JSON 문자열을 PageDto로 변환
-                    PageDto<PostSummaryResponseDto> cachedPageDto = objectMapper.readValue(cachedData, new TypeReference<>() {
-                    });
-                    // PageDto를 다시 Page 객체로 변환 후 반환
-                    return cachedPageDto;
-                }
-            } catch (Exception e) {
-                log.error("캐시 불러오기 실패", e);
-            }
-        }
-        // 캐시를 사용하지 않거나 캐시를 찾지 못할 경우 DB에서 조회
-        List<Long> categoryIds = null;
-        if (categoryId != null) {
-            Category category = categoryRepository.findById(categoryId)
-                    .orElseThrow(() -> new NoSuchElementException("해당 카테고리를 찾을 수 없습니다."));
-            categoryIds = category.getDescendantIdsAndSelf();
-        }
-        Page<PostSummaryResponseDto> resultFromDb = postRepository.findPostsWithConditions(categoryIds, searchType, keyword, pageable);
-        // DB에서 조회한 Page 객체를 PageDto로 변환
-        PageDto<PostSummaryResponseDto> resultDto = PageDto.from(resultFromDb);
-
-        // 캐싱 조건에 부합 -> 조회 결과를 Redis에 저장
-        if (isCachable) {
-            try {
-                // PageDto를 JSON으로 변환 후 Redis에 저장
-                String jsonResult = objectMapper.writeValueAsString(resultDto);
-                redisTemplate.opsForValue().set(cacheKey, jsonResult, Duration.ofMinutes(10)); // TTL 10분 설정 추가
-            } catch (Exception e) {
-                log.error("캐시 생성 실패", e);
-            }
+        // 검색어가 없는 목록은 (카테고리, 페이지, 크기, 정렬) 단위로 캐싱
+        boolean isCachable = keyword == null || keyword.isEmpty();
+        if (!isCachable) {
+            return loadPosts(categoryId, searchType, keyword, pageable);
         }
+        String cacheKey = postListCacheService.keyOf(categoryId, pageable);
+        return postListCacheService.getOrLoad(cacheKey, categoryId,
+                () -> loadPosts(categoryId, searchType, keyword, pageable));
+    }
 
-        return resultDto;
+    // DB에서 목록 조회 후 캐싱 가능한 PageDto로 변환
+    private PageDto<PostSummaryResponseDto> loadPosts(Long categoryId, String searchType, String keyword, Pageable pageable) {
+        List<Long> categoryIds = resolveCategoryIds(categoryId);
+        // 색인 검색이 가능하면 관련도 순 검색, 아니면 기존 조건 조회(LIKE)
+        Page<PostSummaryResponseDto> resultFromDb = postSearchService.supports(keyword)
+                ? searchPosts(categoryIds, searchType, keyword, pageable)
+                : postRepository.findPostsWithConditions(categoryIds, searchType, keyword, pageable);
+        // DB에서 조회한 Page 객체를 PageDto로 변환 (카테고리 이름/slug는 인덱스에서 채움)
+        return PageDto.from(resultFromDb.map(this::withCategory));
     }
 
-    // 좋아요 토글
-    public void toggleLike(Long postId, User user) {
-        // 조회 쿼리 없이 ID만 가진 Post 프록시 객체 생성
-        Post postProxy = postRepository.getReferenceById(postId);
-        Optional<PostLike> existingLike = postLikeRepository.findByPostIdAndUserId(postId, user.getId());
-
-        if (existingLike.isPresent()) {
-            // 이미 좋아요 누름 -> 취소
-            postLikeRepository.delete(existingLike.get());
-            int updatedRows = postRepository.decrementLikeCount(postId);
-
-            if (updatedRows == 0) {
-                throw new NoSuchElementException("해당 게시글이 없거나 좋아요 수가 0입니다.");
-            }
+    // 게시글 목록 조회 (커서 기반)
+    // offset 페이징과 달리 count 쿼리 없이 마지막 게시글 id 이후만 조회
+    @Transactional(readOnly = true)
+    public CursorPageDto<PostSummaryResponseDto> findPostsByCursor(Long categoryId, String searchType, String keyword, Long after, int size) {
+        int validSize = Math.min(Math.max(size, MIN_CURSOR_SIZE), MAX_CURSOR_SIZE);
+        List<Long> categoryIds = resolveCategoryIds(categoryId);
+
+        List<PostSummaryResponseDto> fetched;
+        if (postSearchService.supports(keyword)) {
+            // 색인에서 커서 이전 id를 찾은 뒤 요약 조회
+            List<Long> ids = postSearchService.searchBefore(categoryIds, searchType, keyword, after, validSize + 1);
+            fetched = postRepository.findPostSummariesByIds(ids);
         } else {
-            // 좋아요 누르지 않음 -> 좋아요
-            postLikeRepository.save(new PostLike(user, postProxy));
-            int updatedRows = postRepository.incrementLikeCount(postId);
+            fetched = postRepository.findPostsByCursor(categoryIds, searchType, keyword, after, validSize);
+        }
+        return CursorPageDto.of(fetched.stream().map(this::withCategory).toList(), validSize, post -> String.valueOf(post.id()));
+    }
 
-            if (updatedRows == 0) {
-                throw new NoSuchElementException("해당 게시글이 없습니다.");
-            }
+    // slug 경로로 게시글 목록 조회 ("부모slug/자식slug" 또는 최상위 "slug")
+    // 카테고리 id는 인덱스에서 찾으므로 카테고리 조회 쿼리 없이 findPosts와 같은 캐시를 사용
+    @Transactional(readOnly = true)
+    public PageDto<PostSummaryResponseDto> findPostsBySlugPath(String slugPath, Pageable pageable) {
+        Long categoryId = categoryIndex.findIdBySlugPath(slugPath)
+                .orElseThrow(() -> new NoSuchElementException("해당 카테고리를 찾을 수 없습니다. slug=" + slugPath));
+        return findPosts(categoryId, null, null, pageable);
+    }
+
+    // 목록 요약에 카테고리 이름/slug 채우기
+    // 상위 카테고리가 있으면 (부모 slug, 자신 slug), 최상위면 (자신 slug, null)
+    private PostSummaryResponseDto withCategory(PostSummaryResponseDto summary) {
+        return categoryIndex.find(summary.categoryId())
+                .map(node -> node.parentId() != null
+                        ? summary.withCategory(node.name(), categoryIndex.get(node.parentId()).slug(), node.slug())
+                        : summary.withCategory(node.name(), node.slug(), null))
+                .orElse(summary);
+    }
+
+    // 검색 색인으로 관련도 순 게시글 조회
+    private Page<PostSummaryResponseDto> searchPosts(List<Long> categoryIds, String searchType, String keyword, Pageable pageable) {
+        Page<Long> idPage = postSearchService.search(categoryIds, searchType, keyword, pageable);
+        List<PostSummaryResponseDto> content = postRepository.findPostSummariesByIds(idPage.getContent());
+        return new PageImpl<>(content, pageable, idPage.getTotalElements());
+    }
+
+    // 게시글을 작성할 카테고리 확인 (하위 카테고리만 가능)
+    // 존재/하위 여부는 인덱스로 확인하고, 엔티티는 FK 설정용 프록시만 사용 (카테고리 조회 X)
+    private Category findLeafCategory(CategoryIndex.CategoryNode node) {
+        if (!node.isLeaf()) {
+            throw new IllegalArgumentException("하위 카테고리에만 게시글을 작성할 수 있습니다.");
         }
-        try {
-            redisTemplate.delete("posts::page_1");
-        } catch (Exception e) {
-            log.error("캐시 삭제 실패: posts::page_1", e);
+        return categoryRepository.getReferenceById(node.id());
+    }
+
+    // 카테고리와 모든 상위 카테고리 id (목록 캐시 태그 계산용)
+    private List<Long> categoryPathIds(Category category) {
+        return categoryIndex.find(category.getId())
+                .map(CategoryIndex.CategoryNode::pathIds)
+                .orElse(List.of(category.getId()));
+    }
+
+    // 카테고리 필터 조건 계산 (자신 + 하위 카테고리 id)
+    private List<Long> resolveCategoryIds(Long categoryId) {
+        if (categoryId == null) {
+            return null;
+        }
+        return categoryIndex.get(categoryId).descendantIdsAndSelf();
+    }
+
+    // 좋아요 토글
+    // DB 반영은 PostLikeService가 주기적으로 일괄 처리
+    public boolean toggleLike(Long postId, Long userId) {
+        if (!postRepository.existsById(postId)) {
+            throw new NoSuchElementException("해당 게시글이 없습니다.");
         }
+        return postLikeService.toggle(postId, userId);
     }
 }
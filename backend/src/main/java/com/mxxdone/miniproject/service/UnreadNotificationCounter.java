@@ -0,0 +1,149 @@
+package com.mxxdone.miniproject.service;
+
+import com.mxxdone.miniproject.dto.notification.UnreadCountDto;
+import com.mxxdone.miniproject.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 안 읽은 알림 수 (Redis 카운터)
+ * 뱃지 조회 때마다 notification 테이블을 count 하지 않고 Redis 값 하나만 읽는다.
+ *
+ * 키 구조
+ * - notification:unread:{사용자 id} → 안 읽은 알림 수 (마지막 갱신 후 7일 만료)
+ *
+ * 카운터가 없으면 조회 시 DB에서 한 번 세어 채우고(lazy rebuild),
+ * 증감은 카운터가 있을 때만 반영한다. (없으면 다음 조회 때 DB 값으로 채워짐)
+ * 재구성과 증감이 겹쳐 생기는 오차는 주기적인 보정(app.notification.unread-reconcile-interval-ms)으로 맞춘다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UnreadNotificationCounter {
+
+    private static final String KEY_PREFIX = "notification:unread:";
+    private static final Duration TTL = Duration.ofDays(7);
+    private static final int RECONCILE_BATCH_SIZE = 500;
+
+    // 카운터가 있을 때만 증감 (0 미만으로 내려가지 않음)
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+              return -1
+            end
+            local value = redis.call('INCRBY', KEYS[1], ARGV[1])
+            if value < 0 then
+              redis.call('SET', KEYS[1], 0)
+              value = 0
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return value
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final NotificationRepository notificationRepository;
+
+    public long get(Long userId) {
+        String key = KEY_PREFIX + userId;
+        try {
+            String value = redisTemplate.opsForValue().get(key);
+            if (value != null) {
+                return Long.parseLong(value);
+            }
+        } catch (Exception e) {
+            log.error("안 읽은 알림 수 조회 실패, DB 집계로 대체 (userId: {})", userId, e);
+            return notificationRepository.countByReceiverIdAndIsReadFalse(userId);
+        }
+        // 카운터 없음 -> DB에서 세어 채움 (동시에 채운 값이 있으면 그대로 둠)
+        long count = notificationRepository.countByReceiverIdAndIsReadFalse(userId);
+        try {
+            redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(count), TTL);
+        } catch (Exception e) {
+            log.error("안 읽은 알림 수 저장 실패 (userId: {})", userId, e);
+        }
+        return count;
+    }
+
+    public void increment(Long userId, long amount) {
+        add(userId, amount);
+    }
+
+    public void decrement(Long userId, long amount) {
+        add(userId, -amount);
+    }
+
+    // 모두 읽음 -> 0
+    public void reset(Long userId) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + userId, "0", TTL);
+        } catch (Exception e) {
+            log.error("안 읽은 알림 수 초기화 실패 (userId: {})", userId, e);
+        }
+    }
+
+    private void add(Long userId, long delta) {
+        try {
+            redisTemplate.execute(ADD_SCRIPT, List.of(KEY_PREFIX + userId),
+                    String.valueOf(delta), String.valueOf(TTL.toSeconds()));
+        } catch (Exception e) {
+            // 누락된 증감은 다음 보정 때 맞춰짐
+            log.error("안 읽은 알림 수 갱신 실패 (userId: {}, delta: {})", userId, delta, e);
+        }
+    }
+
+    // 존재하는 카운터만 DB 값으로 덮어씀 (배치 단위 GROUP BY 한 번씩)
+    @Scheduled(fixedDelayString = "${app.notification.unread-reconcile-interval-ms:600000}")
+    public void reconcile() {
+        int fixed = 0;
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(RECONCILE_BATCH_SIZE).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            List<Long> batch = new ArrayList<>();
+            while (cursor.hasNext()) {
+                batch.add(Long.parseLong(cursor.next().substring(KEY_PREFIX.length())));
+                if (batch.size() >= RECONCILE_BATCH_SIZE) {
+                    fixed += reconcileBatch(batch);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                fixed += reconcileBatch(batch);
+            }
+            if (fixed > 0) {
+                log.info("안 읽은 알림 수 보정: {}건", fixed);
+            }
+        } catch (Exception e) {
+            log.error("안 읽은 알림 수 보정 실패", e);
+        }
+    }
+
+    private int reconcileBatch(List<Long> userIds) {
+        Map<Long, Long> actual = notificationRepository.countUnreadGroupByReceiver(userIds).stream()
+                .collect(Collectors.toMap(UnreadCountDto::receiverId, UnreadCountDto::count));
+        List<String> keys = userIds.stream().map(id -> KEY_PREFIX + id).toList();
+        List<String> stored = redisTemplate.opsForValue().multiGet(keys);
+
+        int fixed = 0;
+        for (int i = 0; i < userIds.size(); i++) {
+            String expected = String.valueOf(actual.getOrDefault(userIds.get(i), 0L));
+            String current = stored != null ? stored.get(i) : null;
+            // 그 사이 만료된 키는 다시 만들지 않음 (SET XX)
+            if (current != null && !current.equals(expected)) {
+                redisTemplate.opsForValue().setIfPresent(keys.get(i), expected, TTL);
+                fixed++;
+            }
+        }
+        return fixed;
+    }
+}
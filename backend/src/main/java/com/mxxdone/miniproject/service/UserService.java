@@ -2,11 +2,13 @@ package com.mxxdone.miniproject.service;
 
 import com.mxxdone.miniproject.domain.Role;
 import com.mxxdone.miniproject.domain.User;
+import com.mxxdone.miniproject.dto.event.AdminStatsEvent;
 import com.mxxdone.miniproject.dto.user.*;
 import com.mxxdone.miniproject.exception.DuplicateException;
 import com.mxxdone.miniproject.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,6 +24,7 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder; // SecurityConfig에 등록한 인코더
     private final RefreshTokenService refreshTokenService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Long signup(SignUpRequestDto requestDto) {
         // 아이디 중복 확인(탈퇴 회원 제외)
@@ -50,7 +53,9 @@ public class UserService {
                 .build();
 
         // 사용자 저장
-        return userRepository.save(user).getId();
+        User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(AdminStatsEvent.created(AdminStatsEvent.Metric.USERS, savedUser.getCreatedAt()));
+        return savedUser.getId();
     }
 
     @Transactional(readOnly = true)
@@ -84,6 +89,7 @@ public class UserService {
         }
 
         userRepository.delete(user); // soft delete (@SQLDelete)
+        eventPublisher.publishEvent(AdminStatsEvent.deleted(AdminStatsEvent.Metric.USERS, user.getCreatedAt()));
     }
 
     // 닉네임 수정: 소셜/일반 공통
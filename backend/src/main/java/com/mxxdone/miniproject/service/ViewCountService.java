@@ -0,0 +1,208 @@
+package com.mxxdone.miniproject.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 조회수 쓰기 지연(write-behind) 처리
+ * 조회 시에는 Redis 해시에 게시글별 증가분만 누적하고(HINCRBY),
+ * 주기적으로 모아서 post.view_count에 일괄 반영한다.
+ * -> 인기 게시글 한 행에 UPDATE가 몰리는 것을 방지
+ *
+ * 키 구조
+ * - post:views:pending   → {게시글 id: 아직 반영 안 된 조회수}
+ * - post:views:flushing  → DB 반영 중인 스냅샷 (pending을 RENAME 해서 만듦)
+ * - post:views:flushing:id → 스냅샷 id (view_count_flush에 반영 기록을 남겨 같은 스냅샷을 두 번 더하지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ViewCountService {
+
+    private static final String PENDING_KEY = "post:views:pending";
+    private static final String FLUSHING_KEY = "post:views:flushing";
+    private static final String FLUSHING_ID_KEY = "post:views:flushing:id";
+    // 여러 인스턴스가 동시에 같은 스냅샷을 반영하지 않도록 하는 락
+    private static final String FLUSH_LOCK_KEY = "post:views:flush:lock";
+    private static final Duration FLUSH_LOCK_TTL = Duration.ofSeconds(30);
+    // 반영 기록 보관 기간 (남은 스냅샷이 재시도될 수 있는 기간보다 충분히 길게)
+    private static final Duration FLUSH_RECORD_RETENTION = Duration.ofDays(1);
+
+    // 남은 스냅샷이 있으면 그 id를, 없으면 pending을 flushing으로 떼어내고 새 id를 붙여 반환 (반영할 것이 없으면 nil)
+    private static final RedisScript<String> PREPARE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+              local id = redis.call('GET', KEYS[3])
+              if not id then
+                id = ARGV[1]
+                redis.call('SET', KEYS[3], id)
+              end
+              return id
+            end
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+              return false
+            end
+            redis.call('RENAME', KEYS[1], KEYS[2])
+            redis.call('SET', KEYS[3], ARGV[1])
+            return ARGV[1]
+            """, String.class);
+
+    // 반영한 스냅샷이 그대로일 때만 정리 (그 사이 다른 인스턴스가 새 스냅샷을 만들었으면 건드리지 않음)
+    private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[2]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1], KEYS[2])
+            end
+            return 0
+            """, Long.class);
+
+    // 자신이 잡은 락만 해제 (TTL이 지나 다른 인스턴스가 잡은 락은 유지)
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PostDetailCacheService postDetailCacheService;
+    private final AdminSummaryCounterService adminSummaryCounterService;
+
+    // 조회수 증가 (DB에는 다음 flush 때 반영)
+    public void increment(Long postId, long views) {
+        redisTemplate.opsForHash().increment(PENDING_KEY, String.valueOf(postId), views);
+        // 일별 조회수 추이용 (게시글 구분 없이 하루 합계)
+        adminSummaryCounterService.recordView(views);
+    }
+
+    // 아직 DB에 반영되지 않은 조회수 (상세 조회 시 DB 값에 더해서 보여줌)
+    @SuppressWarnings("unchecked")
+    public long pendingOf(Long postId) {
+        try {
+            String field = String.valueOf(postId);
+            // 반영 중인 스냅샷까지 합쳐야 flush 도중에도 숫자가 줄어들지 않음
+            List<Object> values = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    ops.opsForHash().get(PENDING_KEY, field);
+                    ops.opsForHash().get(FLUSHING_KEY, field);
+                    return null;
+                }
+            });
+            long pending = 0;
+            for (Object value : values) {
+                if (value != null) {
+                    pending += Long.parseLong(value.toString());
+                }
+            }
+            return pending;
+        } catch (Exception e) {
+            log.error("대기 중인 조회수 조회 실패 (Post ID: {})", postId, e);
+            return 0;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.view-count.flush-interval-ms:10000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    // 종료 직전 남은 증가분 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 누적된 조회수를 DB에 일괄 반영
+     * pending 해시를 flushing으로 RENAME 해서 떼어낸 뒤 반영하므로
+     * 반영하는 동안 들어오는 조회수는 새 pending 해시에 쌓인다.
+     * 증가분 UPDATE와 스냅샷 반영 기록을 한 트랜잭션으로 처리하므로,
+     * 같은 스냅샷이 다시 반영되어도(Redis 정리 실패, 락 만료 후 다른 인스턴스) 조회수는 한 번만 더해진다.
+     */
+    public void flush() {
+        try {
+            String token = UUID.randomUUID().toString();
+            Boolean locked = redisTemplate.opsForValue().setIfAbsent(FLUSH_LOCK_KEY, token, FLUSH_LOCK_TTL);
+            if (!Boolean.TRUE.equals(locked)) {
+                return;
+            }
+            try {
+                // 이전 flush가 중간에 실패해서 남은 스냅샷이 있으면 그것부터 반영
+                String snapshotId = redisTemplate.execute(PREPARE_SCRIPT,
+                        List.of(PENDING_KEY, FLUSHING_KEY, FLUSHING_ID_KEY), UUID.randomUUID().toString());
+                if (snapshotId == null) {
+                    return;
+                }
+
+                Map<Object, Object> entries = redisTemplate.opsForHash().entries(FLUSHING_KEY);
+                List<Object[]> batchArgs = entries.entrySet().stream()
+                        .map(entry -> new Object[]{
+                                Long.parseLong(entry.getValue().toString()),
+                                Long.parseLong(entry.getKey().toString())
+                        })
+                        .toList();
+                Boolean applied = transactionTemplate.execute(status -> {
+                    // 기록이 이미 있으면 0건 -> 이미 반영된 스냅샷 (동시에 반영하면 PK 충돌로 늦은 쪽이 롤백됨)
+                    int recorded = jdbcTemplate.update(
+                            "INSERT INTO view_count_flush (snapshot_id, applied_at) SELECT ?, ? " +
+                                    "WHERE NOT EXISTS (SELECT 1 FROM view_count_flush WHERE snapshot_id = ?)",
+                            snapshotId, Timestamp.from(Instant.now()), snapshotId);
+                    if (recorded == 0) {
+                        return false;
+                    }
+                    // 삭제된 게시글은 WHERE 조건에 걸리지 않아 자연스럽게 버려짐
+                    jdbcTemplate.batchUpdate("UPDATE post SET view_count = view_count + ? WHERE id = ?", batchArgs);
+                    return true;
+                });
+                redisTemplate.execute(COMPLETE_SCRIPT, List.of(FLUSHING_KEY, FLUSHING_ID_KEY), snapshotId);
+                if (!Boolean.TRUE.equals(applied)) {
+                    log.warn("이미 반영된 조회수 스냅샷 정리: {}", snapshotId);
+                    return;
+                }
+                // 캐시된 상세의 조회수는 DB 값 기준이므로, 반영된 게시글은 다시 읽도록 삭제
+                postDetailCacheService.evictAll(entries.keySet().stream()
+                        .map(id -> Long.parseLong(id.toString()))
+                        .toList());
+
+                if (!batchArgs.isEmpty()) {
+                    log.debug("조회수 반영 완료: 게시글 {}건", batchArgs.size());
+                }
+            } finally {
+                redisTemplate.execute(UNLOCK_SCRIPT, List.of(FLUSH_LOCK_KEY), token);
+            }
+        } catch (Exception e) {
+            // flushing 스냅샷은 남겨두고 다음 주기에 다시 시도
+            log.error("조회수 일괄 반영 실패", e);
+        }
+    }
+
+    // 오래된 반영 기록 삭제
+    @Scheduled(cron = "0 20 * * * *", zone = "Asia/Seoul")
+    public void purgeFlushRecords() {
+        try {
+            jdbcTemplate.update("DELETE FROM view_count_flush WHERE applied_at < ?",
+                    Timestamp.from(Instant.now().minus(FLUSH_RECORD_RETENTION)));
+        } catch (Exception e) {
+            log.error("조회수 반영 기록 정리 실패", e);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.mxxdone.miniproject.service.view;
+
+import com.mxxdone.miniproject.dto.admin.ViewDedupReportDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 게시글별/일별 HyperLogLog - 키 하나당 최대 12KB로 고정
+ * HLL은 "이 방문자를 본 적 있는가"에 답할 수 없으므로 방문마다 중복 여부를 판단하지 않고,
+ * 고유 방문자 추정치(PFCOUNT)가 늘어난 만큼 조회수를 더한다.
+ * -> 하루 동안 더한 조회수 합계가 그날의 고유 방문자 추정치와 같아짐 (표준 오차 약 0.81%)
+ * 키: post:view:hll:{게시글 id}:{yyyyMMdd}
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.view-dedup.engine", havingValue = "hll")
+public class HyperLogLogViewDeduplicator implements ViewDeduplicator {
+
+    private static final String KEY_PREFIX = "post:view:hll:";
+    // 날짜가 바뀐 뒤에도 잠시 남겨 두었다가 만료
+    private static final Duration TTL = Duration.ofHours(25);
+    // Redis HLL 표준 오차
+    private static final double STANDARD_ERROR = 0.0081;
+
+    // 추가 전후 추정치 차이 반환 (레지스터가 바뀌지 않았으면 0)
+    private static final RedisScript<Long> MARK_SCRIPT = new DefaultRedisScript<>("""
+            local before = redis.call('PFCOUNT', KEYS[1])
+            if redis.call('PFADD', KEYS[1], ARGV[1]) == 0 then
+              return 0
+            end
+            if redis.call('TTL', KEYS[1]) < 0 then
+              redis.call('EXPIRE', KEYS[1], ARGV[2])
+            end
+            local delta = redis.call('PFCOUNT', KEYS[1]) - before
+            if delta < 0 then
+              return 0
+            end
+            return delta
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisKeyStats redisKeyStats;
+
+    @Override
+    public long markViewed(Long postId, String visitor) {
+        String key = KEY_PREFIX + postId + ":" + VisitorHash.today();
+        Long delta = redisTemplate.execute(MARK_SCRIPT, List.of(key),
+                VisitorHash.hex(visitor), String.valueOf(TTL.toSeconds()));
+        return delta != null ? delta : 0;
+    }
+
+    @Override
+    public ViewDedupReportDto report() {
+        RedisKeyStats.Stats stats = redisKeyStats.measure(KEY_PREFIX + "*");
+        return new ViewDedupReportDto("hll", stats.keys().size(), stats.memoryBytes(), stats.sampled(), STANDARD_ERROR,
+                "게시글/일별 HyperLogLog. 키당 최대 12KB, 방문마다 중복을 판단하지 않고 고유 방문자 추정치 증가분만큼 집계 (표준 오차 약 0.81%)");
+    }
+}
@@ -0,0 +1,40 @@
+package com.mxxdone.miniproject.service.view;
+
+import com.mxxdone.miniproject.dto.admin.ViewDedupReportDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * (게시글, IP) 조합마다 24시간짜리 키 하나 - 정확하지만 조회 수만큼 메모리 사용
+ * 키: post:view:{게시글 id}:{ip}
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.view-dedup.engine", havingValue = "key", matchIfMissing = true)
+public class KeyViewDeduplicator implements ViewDeduplicator {
+
+    private static final String KEY_PREFIX = "post:view:";
+    private static final Duration TTL = Duration.ofHours(24);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisKeyStats redisKeyStats;
+
+    @Override
+    public long markViewed(Long postId, String visitor) {
+        // SET NX EX 한 번으로 확인 + 기록 (hasKey -> set 사이 경쟁 조건 제거)
+        return Boolean.TRUE.equals(
+                redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + postId + ":" + visitor, "1", TTL)) ? 1 : 0;
+    }
+
+    @Override
+    public ViewDedupReportDto report() {
+        // post:view:hll:*, post:view:bloom:* 는 제외 (게시글 id로 시작하는 키만)
+        RedisKeyStats.Stats stats = redisKeyStats.measure(KEY_PREFIX + "[0-9]*");
+        return new ViewDedupReportDto("key", stats.keys().size(), stats.memoryBytes(), stats.sampled(), 0.0,
+                "(게시글, IP)마다 키 하나. 오차 없음, 메모리는 고유 조회 수에 비례");
+    }
+}
@@ -0,0 +1,57 @@
+package com.mxxdone.miniproject.service.view;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 리포트용 Redis 키 통계
+ * KEYS 대신 SCAN으로 조금씩 훑고, 너무 많으면 MAX_KEYS 에서 멈춘다.
+ */
+@Component
+@RequiredArgsConstructor
+class RedisKeyStats {
+
+    private static final int MAX_KEYS = 10_000;
+    private static final int SCAN_COUNT = 500;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    record Stats(List<String> keys, long memoryBytes, boolean sampled) {}
+
+    Stats measure(String pattern) {
+        return redisTemplate.execute((RedisCallback<Stats>) connection -> {
+            List<String> keys = new ArrayList<>();
+            boolean sampled = false;
+            ScanOptions options = ScanOptions.scanOptions().match(pattern).count(SCAN_COUNT).build();
+            try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                while (cursor.hasNext()) {
+                    if (keys.size() >= MAX_KEYS) {
+                        sampled = true;
+                        break;
+                    }
+                    keys.add(new String(cursor.next(), StandardCharsets.UTF_8));
+                }
+            }
+            long memory = 0;
+            for (String key : keys) {
+                memory += memoryUsage(connection, key);
+            }
+            return new Stats(keys, memory, sampled);
+        });
+    }
+
+    private long memoryUsage(RedisConnection connection, String key) {
+        Object result = connection.execute("MEMORY",
+                "USAGE".getBytes(StandardCharsets.UTF_8), key.getBytes(StandardCharsets.UTF_8));
+        return result instanceof Number number ? number.longValue() : 0L;
+    }
+}
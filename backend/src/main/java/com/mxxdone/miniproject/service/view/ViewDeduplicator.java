@@ -0,0 +1,23 @@
+package com.mxxdone.miniproject.service.view;
+
+import com.mxxdone.miniproject.dto.admin.ViewDedupReportDto;
+
+/**
+ * 게시글 조회수 중복 방지 엔진
+ * app.view-dedup.engine 설정으로 구현체를 선택한다. (key / hll / bloom, 기본값 key)
+ */
+public interface ViewDeduplicator {
+
+    /**
+     * 방문 기록을 남기고, 이번 방문으로 늘어날 조회수를 반환 (확인 + 기록은 원자적으로 처리)
+     * key/bloom은 처음 본 방문자면 1, 아니면 0
+     * hll은 방문자 하나하나를 구분하지 않고 고유 방문자 추정치가 늘어난 만큼 반환 (하루 합계가 추정치와 같아짐)
+     * @param postId 게시글 ID
+     * @param visitor 방문자 식별값 (IP)
+     * @return 더할 조회수 (0이면 중복 방문)
+     */
+    long markViewed(Long postId, String visitor);
+
+    // 현재 엔진의 메모리 사용량/정확도 리포트
+    ViewDedupReportDto report();
+}
@@ -0,0 +1,41 @@
+package com.mxxdone.miniproject.service.view;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 방문자 식별값(IP)을 원문 대신 해시로 다루기 위한 도구
+ * + 일 단위로 키를 돌리기 위한 날짜 문자열
+ */
+final class VisitorHash {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private VisitorHash() {
+    }
+
+    // SHA-256 앞 16바이트를 두 개의 long으로 (블룸 필터 이중 해싱용)
+    static long[] hash128(String visitor) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(visitor.getBytes(StandardCharsets.UTF_8));
+            ByteBuffer buffer = ByteBuffer.wrap(digest);
+            return new long[]{buffer.getLong(), buffer.getLong()};
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    static String hex(String visitor) {
+        long[] hash = hash128(visitor);
+        return Long.toHexString(hash[0]) + Long.toHexString(hash[1]);
+    }
+
+    static String today() {
+        return LocalDate.now(KST).format(DateTimeFormatter.BASIC_ISO_DATE);
+    }
+}
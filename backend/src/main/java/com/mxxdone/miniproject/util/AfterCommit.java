@@ -0,0 +1,31 @@
+package com.mxxdone.miniproject.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 후 실행 도우미
+ * 캐시 삭제, 버전 증가, Redis 카운터 반영처럼 DB 결과에 맞춰야 하는 작업을
+ * 트랜잭션 안이면 커밋 후에, 밖이면 바로 실행한다. (롤백되면 실행하지 않음)
+ *
+ * 커밋 후 콜백 안에서 다시 등록한 작업은 실행되지 않으므로,
+ * 자체적으로 커밋 후 실행을 등록하는 호출은 콜백 밖에서 해야 한다.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
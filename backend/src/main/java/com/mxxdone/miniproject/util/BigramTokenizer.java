@@ -0,0 +1,61 @@
+package com.mxxdone.miniproject.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 한국어 검색을 위한 2-gram(바이그램) 토크나이저
+ * 형태소 분석기 없이도 "스프링부트"에서 "스프링"이나 "부트"를 찾을 수 있도록
+ * 단어를 두 글자씩 겹쳐서 자른다. (e.g. 스프링 -> 스프, 프링)
+ */
+public class BigramTokenizer {
+
+    // 문자/숫자가 아닌 모든 문자를 단어 구분자로 사용
+    private static final Pattern DELIMITER = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    /**
+     * 색인용 토큰 목록 (중복 포함, 빈도가 랭킹에 반영됨)
+     * 한 글자 단어는 바이그램을 만들 수 없으므로 그대로 토큰으로 사용
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        for (String word : DELIMITER.split(text.toLowerCase(Locale.ROOT))) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            int[] codePoints = word.codePoints().toArray();
+            if (codePoints.length == 1) {
+                tokens.add(word);
+                continue;
+            }
+            for (int i = 0; i < codePoints.length - 1; i++) {
+                tokens.add(new String(codePoints, i, 2));
+            }
+        }
+        return tokens;
+    }
+
+    // 색인 컬럼에 저장할 공백 구분 문자열
+    public static String toIndexText(String text) {
+        return String.join(" ", tokenize(text));
+    }
+
+    /**
+     * 검색어용 토큰 (중복 제거)
+     * 바이그램이 하나도 없으면(한 글자 검색어뿐이면) 빈 문자열을 반환 -> 호출 측에서 LIKE 검색으로 대체
+     */
+    public static String toQueryText(String keyword) {
+        List<String> tokens = tokenize(keyword);
+        boolean hasBigram = tokens.stream().anyMatch(token -> token.codePointCount(0, token.length()) > 1);
+        if (!hasBigram) {
+            return "";
+        }
+        return String.join(" ", new LinkedHashSet<>(tokens));
+    }
+}
@@ -0,0 +1,53 @@
+package com.mxxdone.miniproject.util;
+
+import com.mxxdone.miniproject.dto.category.CategoryResponseDto;
+import com.mxxdone.miniproject.dto.category.CategoryRowDto;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 평면 카테고리 목록 + 카테고리별 게시글 수 -> 카테고리 트리 조립
+ * 입력 순서(displayOrder 오름차순)가 형제 카테고리 순서로 유지되고,
+ * 각 노드의 postCount에는 하위 카테고리 게시글 수까지 합산된다.
+ */
+public final class CategoryTreeBuilder {
+
+    // 목록에 노출하지 않는 최상위 카테고리
+    private static final String HIDDEN_ROOT_SLUG = "uncategorized";
+
+    private CategoryTreeBuilder() {
+    }
+
+    public static List<CategoryResponseDto> build(List<CategoryRowDto> rows, Map<Long, Long> postCounts) {
+        Map<Long, List<CategoryRowDto>> childrenByParentId = new HashMap<>();
+        List<CategoryRowDto> roots = new ArrayList<>();
+        for (CategoryRowDto row : rows) {
+            if (row.parentId() == null) {
+                if (!HIDDEN_ROOT_SLUG.equals(row.slug())) {
+                    roots.add(row);
+                }
+            } else {
+                childrenByParentId.computeIfAbsent(row.parentId(), id -> new ArrayList<>()).add(row);
+            }
+        }
+
+        // categories 캐시(Redis JSON, 타입 정보 포함)에 저장되므로 불변 리스트(toList) 대신 ArrayList 사용
+        return roots.stream()
+                .map(root -> toResponse(root, childrenByParentId, postCounts))
+                .collect(Collectors.toList());
+    }
+
+    private static CategoryResponseDto toResponse(CategoryRowDto row,
+                                                  Map<Long, List<CategoryRowDto>> childrenByParentId,
+                                                  Map<Long, Long> postCounts) {
+        List<CategoryResponseDto> children = childrenByParentId.getOrDefault(row.id(), List.of()).stream()
+                .map(child -> toResponse(child, childrenByParentId, postCounts))
+                .collect(Collectors.toList());
+
+        long totalPostCount = postCounts.getOrDefault(row.id(), 0L)
+                + children.stream().mapToLong(CategoryResponseDto::postCount).sum();
+
+        return new CategoryResponseDto(row.id(), row.name(), row.slug(), totalPostCount, children);
+    }
+}
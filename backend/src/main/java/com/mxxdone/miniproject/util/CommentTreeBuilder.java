@@ -0,0 +1,47 @@
+package com.mxxdone.miniproject.util;
+
+import com.mxxdone.miniproject.dto.comment.CommentResponseDto;
+import com.mxxdone.miniproject.dto.comment.CommentRowDto;
+
+import java.util.*;
+
+/**
+ * 평면 댓글 목록 -> 댓글 트리 조립
+ * 부모 id별로 한 번 묶은 뒤 루트부터 내려가며 만들기 때문에 댓글 수에 비례(O(n))한다.
+ * 입력 순서(작성일 오름차순)가 형제 댓글 순서로 유지된다.
+ */
+public final class CommentTreeBuilder {
+
+    private CommentTreeBuilder() {
+    }
+
+    public static List<CommentResponseDto> build(List<CommentRowDto> rows) {
+        Map<Long, List<CommentRowDto>> childrenByParentId = new HashMap<>();
+        List<CommentRowDto> roots = new ArrayList<>();
+        for (CommentRowDto row : rows) {
+            if (row.parentId() == null) {
+                roots.add(row);
+            } else {
+                childrenByParentId.computeIfAbsent(row.parentId(), id -> new ArrayList<>()).add(row);
+            }
+        }
+
+        List<CommentResponseDto> tree = new ArrayList<>();
+        for (CommentRowDto root : roots) {
+            List<CommentRowDto> children = childrenByParentId.getOrDefault(root.id(), List.of());
+            // 삭제된 루트 댓글은 삭제되지 않은 대댓글이 있을 때만 노출
+            if (root.isDeleted() && children.stream().allMatch(CommentRowDto::isDeleted)) {
+                continue;
+            }
+            tree.add(toResponse(root, childrenByParentId));
+        }
+        return tree;
+    }
+
+    private static CommentResponseDto toResponse(CommentRowDto row, Map<Long, List<CommentRowDto>> childrenByParentId) {
+        List<CommentResponseDto> children = childrenByParentId.getOrDefault(row.id(), List.of()).stream()
+                .map(child -> toResponse(child, childrenByParentId))
+                .toList();
+        return CommentResponseDto.of(row, children);
+    }
+}
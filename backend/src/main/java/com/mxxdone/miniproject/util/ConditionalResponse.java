@@ -0,0 +1,58 @@
+package com.mxxdone.miniproject.util;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * ETag 기반 조건부 GET 응답 도우미
+ * If-None-Match가 현재 ETag와 같으면 본문을 만들지 않고 304를 반환한다.
+ * Last-Modified를 함께 주면 If-Modified-Since만 보내는 클라이언트도 304를 받을 수 있다. (If-None-Match가 있으면 그쪽이 우선)
+ */
+public final class ConditionalResponse {
+
+    private ConditionalResponse() {
+    }
+
+    /**
+     * @param eTag 현재 버전 (null이면 버전을 알 수 없으므로 항상 전체 응답)
+     * @param body 304가 아닐 때만 호출되는 본문 생성 함수
+     */
+    public static <T> ResponseEntity<T> of(WebRequest request, String eTag, CacheControl cacheControl, Supplier<T> body) {
+        return of(request, eTag, null, cacheControl, body);
+    }
+
+    /**
+     * @param lastModified 마지막 수정 시각 (null이면 ETag만 사용)
+     */
+    public static <T> ResponseEntity<T> of(WebRequest request, String eTag, Instant lastModified,
+                                           CacheControl cacheControl, Supplier<T> body) {
+        if (eTag == null) {
+            return ResponseEntity.ok().cacheControl(cacheControl).body(body.get());
+        }
+        // checkNotModified가 응답에 ETag/Last-Modified 헤더도 설정함
+        boolean notModified = lastModified != null
+                ? request.checkNotModified(eTag, lastModified.toEpochMilli())
+                : request.checkNotModified(eTag);
+        if (notModified) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).build();
+        }
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().cacheControl(cacheControl).eTag(eTag);
+        if (lastModified != null) {
+            builder.lastModified(lastModified);
+        }
+        return builder.body(body.get());
+    }
+
+    // 버전 번호 -> ETag 문자열 (버전을 모르면 null)
+    public static String eTagOf(String prefix, Long version) {
+        return Optional.ofNullable(version)
+                .map(v -> prefix + "-v" + v)
+                .orElse(null);
+    }
+}
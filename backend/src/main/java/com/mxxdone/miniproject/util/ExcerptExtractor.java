@@ -0,0 +1,35 @@
+package com.mxxdone.miniproject.util;
+
+import org.jsoup.Jsoup;
+
+public class ExcerptExtractor {
+
+    // 목록 카드에 표시할 요약 길이
+    public static final int MAX_LENGTH = 200;
+
+    /**
+     * 게시글 본문 HTML에서 태그를 제거한 순수 텍스트 요약을 만든다.
+     * 블록 태그 사이는 공백 하나로 합쳐지고, 최대 MAX_LENGTH 글자까지만 남긴다.
+     *
+     * @param html sanitize 된 게시글 본문 HTML
+     * @return 요약 텍스트 (본문이 없으면 빈 문자열)
+     */
+    public static String extract(String html) {
+        String text = plainText(html);
+        if (text.length() <= MAX_LENGTH) {
+            return text;
+        }
+        // 서로게이트 쌍(이모지 등)이 잘리지 않도록 코드 포인트 경계에서 자름
+        int end = text.offsetByCodePoints(0, text.codePointCount(0, MAX_LENGTH));
+        return text.substring(0, end);
+    }
+
+    // HTML 전체를 순수 텍스트로 변환 (검색 색인 등 자르지 않은 본문이 필요할 때 사용)
+    public static String plainText(String html) {
+        if (html == null || html.isBlank()) {
+            return "";
+        }
+        // Jsoup의 text()는 블록 요소 사이에 공백을 넣고 연속 공백을 하나로 정리
+        return Jsoup.parse(html).text().trim();
+    }
+}
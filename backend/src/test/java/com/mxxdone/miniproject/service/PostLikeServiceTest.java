@@ -0,0 +1,156 @@
+package com.mxxdone.miniproject.service;
+
+import com.mxxdone.miniproject.domain.Category;
+import com.mxxdone.miniproject.domain.Post;
+import com.mxxdone.miniproject.domain.Role;
+import com.mxxdone.miniproject.domain.User;
+import com.mxxdone.miniproject.repository.CategoryRepository;
+import com.mxxdone.miniproject.repository.PostLikeRepository;
+import com.mxxdone.miniproject.repository.PostRepository;
+import com.mxxdone.miniproject.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 실제 스프링 컨텍스트를 모두 띄웁니다 (실제 Redis, 진짜 DB 사용)
+// 좋아요 토글(Redis) -> flush(DB) 쓰기 지연 경로 검증
+@SpringBootTest
+@ActiveProfiles("test")
+class PostLikeServiceTest {
+
+    private static final String PENDING_KEY = "post:likes:pending";
+    private static final String FLUSHING_KEY = "post:likes:flushing";
+    private static final String FLUSH_LOCK_KEY = "post:likes:flush:lock";
+
+    @MockitoBean
+    private S3Uploader s3Uploader;
+
+    @Autowired
+    private PostLikeService postLikeService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Mock이 아닌 진짜 RedisTemplate을 주입
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    private Long targetPostId;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        // 이전 테스트/다른 테스트가 남긴 토글이 섞이지 않도록 비우고 시작
+        redisTemplate.delete(List.of(PENDING_KEY, FLUSHING_KEY, FLUSH_LOCK_KEY));
+
+        User testUser = userRepository.save(createUser("like_user", "like@test.com"));
+        Category testCategory = categoryRepository.save(new Category("좋아요카테고리", "like-cat", 1));
+        Post testPost = postRepository.save(Post.builder()
+                .title("좋아요 테스트 게시글")
+                .content("내용입니다.")
+                .author(testUser)
+                .category(testCategory)
+                .build()
+        );
+
+        userId = testUser.getId();
+        targetPostId = testPost.getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        // post_like가 post/users를 참조하므로 먼저 삭제 (soft delete된 사용자까지 지우도록 SQL로 직접 삭제)
+        jdbcTemplate.update("DELETE FROM post_like");
+        postRepository.deleteAllInBatch();
+        categoryRepository.deleteAllInBatch();
+        jdbcTemplate.update("DELETE FROM users");
+
+        redisTemplate.delete(List.of(PENDING_KEY, FLUSHING_KEY, FLUSH_LOCK_KEY, "post:likes:" + targetPostId));
+    }
+
+    @Test
+    @DisplayName("좋아요 토글 후 flush 하면 post_like 행과 like_count가 DB에 반영되어야 한다")
+    void toggle_thenFlush_persistsLike() {
+        boolean liked = postLikeService.toggle(targetPostId, userId);
+        postLikeService.flush();
+
+        assertTrue(liked);
+        assertTrue(postLikeRepository.existsByPostIdAndUserId(targetPostId, userId));
+        assertEquals(1, postRepository.findById(targetPostId).orElseThrow().getLikeCount());
+        assertFalse(redisTemplate.hasKey(FLUSHING_KEY));
+    }
+
+    @Test
+    @DisplayName("두 번 토글(좋아요 -> 취소) 후 flush 하면 마지막 상태만 반영되어야 한다")
+    void toggleTwice_thenFlush_persistsLastState() {
+        postLikeService.toggle(targetPostId, userId);
+        boolean liked = postLikeService.toggle(targetPostId, userId);
+        postLikeService.flush();
+
+        assertFalse(liked);
+        assertFalse(postLikeRepository.existsByPostIdAndUserId(targetPostId, userId));
+        assertEquals(0, postRepository.findById(targetPostId).orElseThrow().getLikeCount());
+    }
+
+    @Test
+    @DisplayName("이미 반영된 flushing 스냅샷이 남아 다시 반영되어도 결과가 같아야 한다")
+    void flush_replayingLeftoverSnapshot_isIdempotent() {
+        postLikeService.toggle(targetPostId, userId);
+        postLikeService.flush();
+
+        // DB 반영 후 Redis 정리 전에 실패한 상황 재현 -> 같은 스냅샷이 flushing에 남아 있음
+        redisTemplate.opsForHash().put(FLUSHING_KEY, targetPostId + ":" + userId, "1");
+        postLikeService.flush();
+
+        assertEquals(1, postLikeRepository.findUserIdsByPostId(targetPostId).size());
+        assertEquals(1, postRepository.findById(targetPostId).orElseThrow().getLikeCount());
+        assertFalse(redisTemplate.hasKey(FLUSHING_KEY));
+    }
+
+    @Test
+    @DisplayName("flush 전에 탈퇴(soft delete)한 사용자의 좋아요는 반영되지 않아야 한다")
+    void flush_skipsWithdrawnUser() {
+        User withdrawn = userRepository.save(createUser("withdrawn_user", "withdrawn@test.com"));
+        postLikeService.toggle(targetPostId, userId);
+        postLikeService.toggle(targetPostId, withdrawn.getId());
+
+        // @SQLDelete -> is_deleted = true
+        userRepository.delete(withdrawn);
+        postLikeService.flush();
+
+        assertTrue(postLikeRepository.existsByPostIdAndUserId(targetPostId, userId));
+        assertFalse(postLikeRepository.existsByPostIdAndUserId(targetPostId, withdrawn.getId()));
+        assertEquals(1, postRepository.findById(targetPostId).orElseThrow().getLikeCount());
+    }
+
+    private User createUser(String username, String email) {
+        return User.builder()
+                .username(username)
+                .password(passwordEncoder.encode("password"))
+                .nickname(username)
+                .email(email)
+                .role(Role.USER)
+                .build();
+    }
+}
@@ -43,6 +43,8 @@ class PostServiceConcurrencyTest {
     private PostRepository postRepository;
     @Autowired
     private PasswordEncoder passwordEncoder;
+    @Autowired
+    private ViewCountService viewCountService;
 
     // Mock이 아닌 진짜 RedisTemplate을 주입
     @Autowired
@@ -119,6 +121,8 @@ class PostServiceConcurrencyTest {
 
         readyLatch.countDown();
         finishLatch.await();
+        // Redis에 누적된 조회수를 DB에 반영
+        viewCountService.flush();
 
         Post finalPost = postRepository.findById(targetPostId).orElseThrow();
 
@@ -156,6 +160,8 @@ class PostServiceConcurrencyTest {
 
         readyLatch.countDown();
         finishLatch.await();
+        // Redis에 누적된 조회수를 DB에 반영
+        viewCountService.flush();
 
         Post finalPost = postRepository.findById(targetPostId).orElseThrow();
 
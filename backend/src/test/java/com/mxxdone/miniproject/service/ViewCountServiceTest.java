@@ -0,0 +1,137 @@
+package com.mxxdone.miniproject.service;
+
+import com.mxxdone.miniproject.domain.Category;
+import com.mxxdone.miniproject.domain.Post;
+import com.mxxdone.miniproject.domain.Role;
+import com.mxxdone.miniproject.domain.User;
+import com.mxxdone.miniproject.repository.CategoryRepository;
+import com.mxxdone.miniproject.repository.PostRepository;
+import com.mxxdone.miniproject.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+// 실제 스프링 컨텍스트를 모두 띄웁니다 (실제 Redis, 진짜 DB 사용)
+// 조회수 누적(Redis) -> flush(DB) 쓰기 지연 경로와 스냅샷 중복 반영 방지 검증
+@SpringBootTest
+@ActiveProfiles("test")
+class ViewCountServiceTest {
+
+    private static final String PENDING_KEY = "post:views:pending";
+    private static final String FLUSHING_KEY = "post:views:flushing";
+    private static final String FLUSHING_ID_KEY = "post:views:flushing:id";
+    private static final String FLUSH_LOCK_KEY = "post:views:flush:lock";
+
+    @MockitoBean
+    private S3Uploader s3Uploader;
+
+    @Autowired
+    private ViewCountService viewCountService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Mock이 아닌 진짜 RedisTemplate을 주입
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    private Long targetPostId;
+
+    @BeforeEach
+    void setUp() {
+        // 이전 테스트가 남긴 조회수가 섞이지 않도록 비우고 시작
+        redisTemplate.delete(List.of(PENDING_KEY, FLUSHING_KEY, FLUSHING_ID_KEY, FLUSH_LOCK_KEY));
+
+        User testUser = userRepository.save(User.builder()
+                .username("view_user")
+                .password(passwordEncoder.encode("password"))
+                .nickname("조회유저")
+                .email("view@test.com")
+                .role(Role.USER)
+                .build()
+        );
+        Category testCategory = categoryRepository.save(new Category("조회카테고리", "view-cat", 1));
+        Post testPost = postRepository.save(Post.builder()
+                .title("조회수 테스트 게시글")
+                .content("내용입니다.")
+                .author(testUser)
+                .category(testCategory)
+                .build()
+        );
+
+        targetPostId = testPost.getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        postRepository.deleteAllInBatch();
+        categoryRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        jdbcTemplate.update("DELETE FROM view_count_flush");
+
+        redisTemplate.delete(List.of(PENDING_KEY, FLUSHING_KEY, FLUSHING_ID_KEY, FLUSH_LOCK_KEY));
+    }
+
+    @Test
+    @DisplayName("누적된 조회수를 flush 하면 view_count에 더해지고 Redis 스냅샷은 정리되어야 한다")
+    void flush_addsPendingViews() {
+        viewCountService.increment(targetPostId, 3);
+        viewCountService.flush();
+
+        assertEquals(3, postRepository.findById(targetPostId).orElseThrow().getViewCount());
+        assertEquals(0, viewCountService.pendingOf(targetPostId));
+        assertFalse(redisTemplate.hasKey(FLUSHING_KEY));
+        assertFalse(redisTemplate.hasKey(FLUSHING_ID_KEY));
+    }
+
+    @Test
+    @DisplayName("이미 반영된 스냅샷이 Redis에 남아 다시 flush 되어도 조회수는 한 번만 더해져야 한다")
+    void flush_replayingAppliedSnapshot_isIdempotent() {
+        viewCountService.increment(targetPostId, 3);
+        viewCountService.flush();
+        String snapshotId = jdbcTemplate.queryForObject("SELECT snapshot_id FROM view_count_flush", String.class);
+
+        // DB 커밋 후 Redis 정리 전에 실패한 상황 재현 -> 같은 id의 스냅샷이 flushing에 남아 있음
+        redisTemplate.opsForHash().put(FLUSHING_KEY, String.valueOf(targetPostId), "3");
+        redisTemplate.opsForValue().set(FLUSHING_ID_KEY, snapshotId);
+        viewCountService.flush();
+
+        assertEquals(3, postRepository.findById(targetPostId).orElseThrow().getViewCount());
+        assertFalse(redisTemplate.hasKey(FLUSHING_KEY));
+        assertFalse(redisTemplate.hasKey(FLUSHING_ID_KEY));
+    }
+
+    @Test
+    @DisplayName("flush 중 실패해 남은 스냅샷은 다음 flush 때 새로 쌓인 조회수와 별개로 한 번씩 반영되어야 한다")
+    void flush_leftoverSnapshotThenPending() {
+        // 반영되지 않은 채 남은 스냅샷 (id 없이 남은 경우 새 id가 붙음)
+        redisTemplate.opsForHash().put(FLUSHING_KEY, String.valueOf(targetPostId), "2");
+        viewCountService.increment(targetPostId, 5);
+
+        viewCountService.flush(); // 남은 스냅샷 먼저
+        viewCountService.flush(); // 그 다음 pending
+
+        assertEquals(7, postRepository.findById(targetPostId).orElseThrow().getViewCount());
+        assertEquals(0, viewCountService.pendingOf(targetPostId));
+    }
+}
@@ -0,0 +1,36 @@
+package com.mxxdone.miniproject.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BigramTokenizerTest {
+
+    @Test
+    @DisplayName("단어를 두 글자씩 겹쳐서 자르고 영문은 소문자로 바꾼다")
+    void tokenize_bigrams() {
+        assertThat(BigramTokenizer.tokenize("스프링 Boot"))
+                .containsExactly("스프", "프링", "bo", "oo", "ot");
+    }
+
+    @Test
+    @DisplayName("문장 부호는 단어 구분자로 처리하고 한 글자 단어는 그대로 남긴다")
+    void tokenize_delimiters_and_single_char() {
+        assertThat(BigramTokenizer.tokenize("C, 언어!"))
+                .containsExactly("c", "언어");
+    }
+
+    @Test
+    @DisplayName("검색어 토큰은 중복을 제거한다")
+    void toQueryText_distinct() {
+        assertThat(BigramTokenizer.toQueryText("가가가")).isEqualTo("가가");
+    }
+
+    @Test
+    @DisplayName("바이그램을 만들 수 없는 검색어는 빈 문자열을 반환한다")
+    void toQueryText_without_bigram() {
+        assertThat(BigramTokenizer.toQueryText("a b")).isEmpty();
+        assertThat(BigramTokenizer.toQueryText(null)).isEmpty();
+    }
+}
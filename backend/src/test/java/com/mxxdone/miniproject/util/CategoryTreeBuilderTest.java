@@ -0,0 +1,58 @@
+package com.mxxdone.miniproject.util;
+
+import com.mxxdone.miniproject.dto.category.CategoryResponseDto;
+import com.mxxdone.miniproject.dto.category.CategoryRowDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CategoryTreeBuilderTest {
+
+    private static CategoryRowDto row(long id, Long parentId, String slug, int displayOrder) {
+        return new CategoryRowDto(id, parentId, "카테고리" + id, slug, displayOrder);
+    }
+
+    @Test
+    @DisplayName("평면 목록을 트리로 조립하고 하위 카테고리 게시글 수를 부모에 합산한다")
+    void build_tree_with_rolled_up_counts() {
+        // given
+        List<CategoryRowDto> rows = List.of(
+                row(1, null, "backend", 1),
+                row(2, null, "frontend", 2),
+                row(3, 1L, "spring", 1),
+                row(4, 1L, "jpa", 2)
+        );
+        Map<Long, Long> postCounts = Map.of(1L, 2L, 3L, 5L, 4L, 1L);
+
+        // when
+        List<CategoryResponseDto> tree = CategoryTreeBuilder.build(rows, postCounts);
+
+        // then
+        assertThat(tree).extracting(CategoryResponseDto::id).containsExactly(1L, 2L);
+        assertThat(tree.get(0).postCount()).isEqualTo(8L);
+        assertThat(tree.get(0).children()).extracting(CategoryResponseDto::postCount).containsExactly(5L, 1L);
+        assertThat(tree.get(1).postCount()).isZero();
+        assertThat(tree.get(1).children()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("미분류 최상위 카테고리와 그 하위는 트리에서 제외한다")
+    void build_excludes_uncategorized() {
+        // given
+        List<CategoryRowDto> rows = List.of(
+                row(1, null, "uncategorized", 0),
+                row(2, 1L, "etc", 1),
+                row(3, null, "backend", 1)
+        );
+
+        // when
+        List<CategoryResponseDto> tree = CategoryTreeBuilder.build(rows, Map.of(1L, 3L));
+
+        // then
+        assertThat(tree).extracting(CategoryResponseDto::slug).containsExactly("backend");
+    }
+}
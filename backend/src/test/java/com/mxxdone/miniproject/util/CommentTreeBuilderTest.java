@@ -0,0 +1,76 @@
+package com.mxxdone.miniproject.util;
+
+import com.mxxdone.miniproject.dto.comment.CommentResponseDto;
+import com.mxxdone.miniproject.dto.comment.CommentRowDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommentTreeBuilderTest {
+
+    private static CommentRowDto row(long id, Long parentId, boolean deleted) {
+        return new CommentRowDto(id, parentId, "댓글" + id, "user" + id, "닉네임" + id, null,
+                deleted, Instant.EPOCH.plusSeconds(id), Instant.EPOCH.plusSeconds(id));
+    }
+
+    @Test
+    @DisplayName("평면 목록을 부모-자식 트리로 조립하고 작성 순서를 유지한다")
+    void build_nested_tree() {
+        // given
+        List<CommentRowDto> rows = List.of(
+                row(1, null, false),
+                row(2, 1L, false),
+                row(3, null, false),
+                row(4, 2L, false),
+                row(5, 1L, false)
+        );
+
+        // when
+        List<CommentResponseDto> tree = CommentTreeBuilder.build(rows);
+
+        // then
+        assertThat(tree).extracting(CommentResponseDto::id).containsExactly(1L, 3L);
+        assertThat(tree.get(0).children()).extracting(CommentResponseDto::id).containsExactly(2L, 5L);
+        assertThat(tree.get(0).children().get(0).children()).extracting(CommentResponseDto::id).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("삭제된 루트 댓글은 삭제되지 않은 대댓글이 있을 때만 남고 내용은 대체된다")
+    void build_keeps_deleted_root_with_visible_reply() {
+        // given
+        List<CommentRowDto> rows = List.of(
+                row(1, null, true),
+                row(2, 1L, false),
+                row(3, null, true),
+                row(4, 3L, true),
+                row(5, null, true)
+        );
+
+        // when
+        List<CommentResponseDto> tree = CommentTreeBuilder.build(rows);
+
+        // then
+        assertThat(tree).extracting(CommentResponseDto::id).containsExactly(1L);
+        assertThat(tree.get(0).content()).isEqualTo("삭제된 댓글입니다.");
+        assertThat(tree.get(0).children()).extracting(CommentResponseDto::id).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("비회원 댓글은 비회원 이름을 닉네임으로 사용한다")
+    void build_guest_comment() {
+        // given
+        CommentRowDto guest = new CommentRowDto(1L, null, "안녕하세요", null, null, "손님",
+                false, Instant.EPOCH, Instant.EPOCH);
+
+        // when
+        CommentResponseDto result = CommentTreeBuilder.build(List.of(guest)).get(0);
+
+        // then
+        assertThat(result.authorNickname()).isEqualTo("손님");
+        assertThat(result.isGuest()).isTrue();
+    }
+}
@@ -0,0 +1,42 @@
+package com.mxxdone.miniproject.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExcerptExtractorTest {
+
+    @Test
+    @DisplayName("HTML 태그를 제거하고 블록 사이를 공백 하나로 합친다")
+    void extract_strips_html() {
+        // given
+        String html = "<h1>제목</h1><p>첫 번째 <strong>문단</strong></p><ul><li>항목</li></ul>";
+
+        // when
+        String excerpt = ExcerptExtractor.extract(html);
+
+        // then
+        assertThat(excerpt).isEqualTo("제목 첫 번째 문단 항목");
+    }
+
+    @Test
+    @DisplayName("최대 길이를 넘는 본문은 MAX_LENGTH 글자로 자른다")
+    void extract_truncates_long_text() {
+        // given
+        String html = "<p>" + "가".repeat(ExcerptExtractor.MAX_LENGTH + 50) + "</p>";
+
+        // when
+        String excerpt = ExcerptExtractor.extract(html);
+
+        // then
+        assertThat(excerpt).hasSize(ExcerptExtractor.MAX_LENGTH);
+    }
+
+    @Test
+    @DisplayName("본문이 비어 있으면 빈 문자열을 반환한다")
+    void extract_empty() {
+        assertThat(ExcerptExtractor.extract(null)).isEmpty();
+        assertThat(ExcerptExtractor.extract("   ")).isEmpty();
+    }
+}
@@ -2,10 +2,18 @@ import { defineStore } from 'pinia'
 import { ref } from 'vue'
 import apiClient from '@/api'
 
+// 스트림이 끊겼을 때 다시 연결하기까지 기다리는 시간 (ms)
+const RECONNECT_DELAY = 3000
+
 export const useNotificationsStore = defineStore('notifications', () => {
   const notifications = ref([])
   const unreadCount = ref(0)
 
+  // 실시간 알림 스트림 (SSE)
+  let eventSource = null
+  let reconnectTimer = null
+  let lastEventId = null
+
 /*  const unreadNotifications = computed(() => {
     // 안전장치: notifications.value가 없을 때를 대비해 빈 배열 처리
     const list = notifications.value || []
@@ -22,6 +30,46 @@ export const useNotificationsStore = defineStore('notifications', () => {
     }
   }
 
+  // 실시간 알림 구독 - 배지 개수는 처음 한 번만 조회하고 이후에는 스트림으로 갱신
+  // EventSource는 Authorization 헤더를 보낼 수 없으므로 짧은 티켓을 받아 쿼리로 전달
+  async function connectStream() {
+    disconnectStream()
+    try {
+      const { data } = await apiClient.post('/api/v1/notifications/stream-ticket')
+      const params = new URLSearchParams({ ticket: data.ticket })
+      if (lastEventId) {
+        params.set('lastEventId', lastEventId) // 끊긴 사이 놓친 알림을 다시 받음
+      }
+      eventSource = new EventSource(
+        `${import.meta.env.VITE_API_BASE_URL}/api/v1/notifications/stream?${params}`,
+      )
+      eventSource.addEventListener('notification', (event) => {
+        lastEventId = event.lastEventId
+        const notification = JSON.parse(event.data)
+        if (!notifications.value.some((item) => item.id === notification.id)) {
+          notifications.value.unshift(notification)
+          unreadCount.value += 1
+        }
+      })
+      // 티켓은 짧게 만료되므로 브라우저 자동 재연결 대신 새 티켓으로 다시 연결
+      eventSource.onerror = () => {
+        disconnectStream()
+        reconnectTimer = setTimeout(connectStream, RECONNECT_DELAY)
+      }
+    } catch (error) {
+      console.error('알림 스트림 연결 실패:', error)
+    }
+  }
+
+  function disconnectStream() {
+    clearTimeout(reconnectTimer)
+    reconnectTimer = null
+    if (eventSource) {
+      eventSource.close()
+      eventSource = null
+    }
+  }
+
   // 알림 목록 가져오기 (목록용)
   async function fetchNotifications() {
     try {
@@ -63,5 +111,14 @@ export const useNotificationsStore = defineStore('notifications', () => {
     }
   }
 
-  return { notifications, unreadCount, fetchUnreadCount, fetchNotifications, markAsRead, markAllAsRead }
+  return {
+    notifications,
+    unreadCount,
+    fetchUnreadCount,
+    fetchNotifications,
+    markAsRead,
+    markAllAsRead,
+    connectStream,
+    disconnectStream,
+  }
 })